@@ -0,0 +1,136 @@
+package os.scheduling.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import os.scheduling.enums.ResourceLayout;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessTable;
+import os.scheduling.service.ResourceManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 대기 프로세스 수와 자원 종류 수에 따른 Banker's 안전성 검사 비용
+// assignIncremental 은 ResourceManager 가 유지하는 행렬로, assignRebuild 는 매번 행렬을 새로 만들어 검사하고,
+// assignCached 는 같은 상태를 다시 물을 때의 캐시 적중 비용이다
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResourceManagerBenchmarks {
+    private static final int RESOURCE_PER_TYPE = 10;
+    private static final int TYPES_PER_PROCESS = 3;
+    private static final int CACHE_SIZE = 16;
+
+    // 가용 자원을 요구량 평균 근처로 잡아 일부만 할당 가능한 상태를 만든다
+    @State(Scope.Thread)
+    public static class DenseDemands {
+        @Param({"10", "100", "1000", "5000"})
+        public int waitingSize;
+
+        @Param({"5", "50", "500"})
+        public int resourceTypes;
+
+        private int[] totalResources;
+        private int[] available;
+        private List<Process> waitingList;
+        private ResourceManager resourceManager;
+        private ResourceManager cachedResourceManager;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            totalResources = new int[resourceTypes];
+            Arrays.fill(totalResources, RESOURCE_PER_TYPE);
+            available = new int[resourceTypes];
+            for (int j = 0; j < resourceTypes; j++) {
+                available[j] = random.nextInt(RESOURCE_PER_TYPE / 2 - 1, RESOURCE_PER_TYPE / 2 + 1);
+            }
+            waitingList = new ArrayList<>(waitingSize);
+            resourceManager = new ResourceManager(totalResources, 0);
+            cachedResourceManager = new ResourceManager(totalResources, CACHE_SIZE);
+            ProcessTable processTable = new ProcessTable(resourceTypes, waitingSize);
+            for (int i = 0; i < waitingSize; i++) {
+                int[] required = new int[resourceTypes];
+                for (int j = 0; j < resourceTypes; j++) {
+                    required[j] = random.nextInt(RESOURCE_PER_TYPE / 2 + 1);
+                }
+                Process process = processTable.add(i, required, 1, 0);
+                waitingList.add(process);
+                resourceManager.addWaitingProcess(process);
+                cachedResourceManager.addWaitingProcess(process);
+            }
+        }
+    }
+
+    // 종류는 많고 프로세스마다 몇 종류만 요구하는 작업: 저장 방식별 비교
+    // 가용 자원을 요구량 최댓값보다 작게 잡아, 여러 프로세스가 몰린 종류에서 막히는 상태를 만든다
+    @State(Scope.Thread)
+    public static class SparseDemands {
+        @Param({"100", "1000"})
+        public int waitingSize;
+
+        @Param({"500", "5000"})
+        public int resourceTypes;
+
+        // 비워 두면 모든 저장 방식
+        @Param
+        public ResourceLayout layout;
+
+        private int[] available;
+        private ResourceManager resourceManager;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            int[] totalResources = new int[resourceTypes];
+            Arrays.fill(totalResources, RESOURCE_PER_TYPE);
+            available = new int[resourceTypes];
+            for (int j = 0; j < resourceTypes; j++) {
+                available[j] = random.nextInt(RESOURCE_PER_TYPE / 2 - 1, RESOURCE_PER_TYPE / 2 + 1);
+            }
+            ProcessTable processTable = new ProcessTable(resourceTypes, layout);
+            resourceManager = new ResourceManager(totalResources, 0, layout);
+            for (int i = 0; i < waitingSize; i++) {
+                int[] required = new int[resourceTypes];
+                for (int k = 0; k < TYPES_PER_PROCESS; k++) {
+                    required[random.nextInt(resourceTypes)] = random.nextInt(1, RESOURCE_PER_TYPE / 2 + 2);
+                }
+                resourceManager.addWaitingProcess(processTable.add(i, required, 1, 0));
+            }
+        }
+    }
+
+    @Benchmark
+    public int assignIncremental(DenseDemands state) {
+        return (int) state.resourceManager.getProcessToAssignResources(state.available)[0];
+    }
+
+    @Benchmark
+    public int assignCached(DenseDemands state) {
+        return (int) state.cachedResourceManager.getProcessToAssignResources(state.available)[0];
+    }
+
+    @Benchmark
+    public int assignRebuild(DenseDemands state) {
+        return (int) ResourceManager.getProcessToAssignResources(state.available, state.totalResources, state.waitingList)[0];
+    }
+
+    @Benchmark
+    public int assignSparseDemand(SparseDemands state) {
+        return (int) state.resourceManager.getProcessToAssignResources(state.available)[0];
+    }
+}
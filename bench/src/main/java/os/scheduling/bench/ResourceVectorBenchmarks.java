@@ -0,0 +1,74 @@
+package os.scheduling.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import os.scheduling.resource.ResourceVectorOps;
+import os.scheduling.resource.ResourceVectors;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 자원 종류 수별 벡터 연산 비용 (스칼라 / SIMD). 포크한 JVM 에 인큐베이터 모듈을 더해 SIMD 구현도 측정한다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ResourceVectorBenchmarks {
+    private static final int ROWS = 64;
+
+    @Param({"scalar", "simd"})
+    public String backend;
+
+    @Param({"5", "64", "512", "4096"})
+    public int resourceTypes;
+
+    private ResourceVectorOps vectors;
+    private int[] need;
+    private int[] allocation;
+    private int[] work;
+    private int row = 0;
+
+    // 모든 행이 끝까지 비교되도록 need 를 work 이하로 잡는다
+    @Setup
+    public void setUp() {
+        vectors = backend.equals("simd") ? ResourceVectors.vectorized() : ResourceVectors.scalar();
+        if (vectors == null) {
+            throw new IllegalStateException("Vector API backend is not available");
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        need = new int[ROWS * resourceTypes];
+        allocation = new int[ROWS * resourceTypes];
+        work = new int[resourceTypes];
+        for (int j = 0; j < resourceTypes; j++) {
+            work[j] = 10;
+        }
+        for (int i = 0; i < need.length; i++) {
+            need[i] = random.nextInt(11);
+            allocation[i] = random.nextInt(3);
+        }
+    }
+
+    // 안전성 검사의 한 단계: need 행이 work 이하인지 보고, 그렇다면 allocation 행을 work 에 돌려준 뒤 다시 뺀다
+    @Benchmark
+    public int compareAndRelease() {
+        int offset = row * resourceTypes;
+        row = (row + 1) % ROWS;
+        if (!vectors.isLessOrEqual(need, offset, work, 0, resourceTypes)) {
+            return -1;
+        }
+        vectors.add(work, 0, allocation, offset, resourceTypes);
+        vectors.subtract(work, 0, allocation, offset, resourceTypes);
+        return work[0];
+    }
+}
@@ -0,0 +1,113 @@
+package os.scheduling.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import os.scheduling.ProcessSimulator;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.SimulationEngine;
+import os.scheduling.enums.TraceMode;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.workload.ListDispatchCursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 규모별 전체 시뮬레이션 비용. ScalingTest 가 한 축씩 값을 바꿔 돌리고 틱당 시간과 할당 바이트로 나눠 증가 지수를 본다
+// 단독으로도 돌릴 수 있다: java -jar bench/target/benchmarks.jar Scaling -p processes=100000 -prof gc
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalingBenchmarks {
+    public static final int BASE_PROCESSORS = 8;
+    private static final int MAX_RUN_TIME = 10;
+    private static final long SEED = 42L;
+
+    @Param({"1000"})
+    public int processes;
+
+    @Param({"8"})
+    public int processors;
+
+    @Param({"5"})
+    public int resourceTypes;
+
+    @Param({"FCFS"})
+    public SchedulingAlgorithm algorithm;
+
+    @Param({"TICK"})
+    public SimulationEngine engine;
+
+    private SimulationConfig config;
+    private List<ProcessDispatch> dispatches;
+
+    @Setup
+    public void setUp() {
+        config = config(processes, processors, resourceTypes, algorithm, engine);
+        dispatches = createDispatches(processes, processors, resourceTypes);
+    }
+
+    @Benchmark
+    public int simulate() {
+        return simulate(config, dispatches);
+    }
+
+    // 같은 입력은 같은 틱 수로 끝나므로, 측정값을 나눌 틱 수는 한 번 돌려서 얻는다
+    public static int ticks(int processes, int processors, int resourceTypes,
+                            SchedulingAlgorithm algorithm, SimulationEngine engine) {
+        int finishTime = simulate(config(processes, processors, resourceTypes, algorithm, engine),
+                createDispatches(processes, processors, resourceTypes));
+        return Math.max(finishTime, 1);
+    }
+
+    private static int simulate(SimulationConfig config, List<ProcessDispatch> dispatches) {
+        return new ProcessSimulator(config, new ListDispatchCursor(dispatches)).simulate().finishTime();
+    }
+
+    // 종류별 자원은 프로세서 수만큼 두어, 규모를 키워도 자원 경쟁 정도가 같게 한다
+    private static SimulationConfig config(int processes, int processors, int resourceTypes,
+                                           SchedulingAlgorithm algorithm, SimulationEngine engine) {
+        int[] givenResources = new int[resourceTypes];
+        Arrays.fill(givenResources, processors);
+        return SimulationConfig.builder()
+                .numProcesses(processes)
+                .numProcessors(processors)
+                .givenResources(givenResources)
+                .maxProcessRunTime(MAX_RUN_TIME)
+                .schedulingAlgorithm(algorithm)
+                .simulationEngine(engine)
+                .traceMode(TraceMode.OFF)
+                .seed(SEED)
+                .build();
+    }
+
+    // 프로세서 8 개당 틱마다 한 작업이 도착하고 (부하 약 0.7), 종류마다 0 또는 1 단위를 요구한다
+    private static List<ProcessDispatch> createDispatches(int processes, int processors, int resourceTypes) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<ProcessDispatch> dispatches = new ArrayList<>(processes);
+        for (int i = 0; i < processes; i++) {
+            int dispatchTime = (int) ((long) i * BASE_PROCESSORS / processors);
+            int[] resources = new int[resourceTypes];
+            for (int j = 0; j < resourceTypes; j++) {
+                resources[j] = random.nextInt(2);
+            }
+            dispatches.add(new ProcessDispatch(i + 1, dispatchTime, random.nextInt(MAX_RUN_TIME) + 1, resources));
+        }
+        return dispatches;
+    }
+}
@@ -0,0 +1,141 @@
+package os.scheduling.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import os.scheduling.ProcessSimulator;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.SimulationEngine;
+import os.scheduling.enums.TraceMode;
+import os.scheduling.enums.VictimPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+// 출력 없이 고정 시드로 돌리는 전체 시뮬레이션
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SimulationBenchmarks {
+    private static final int NUM_PROCESSES = 2_000;
+    private static final int MAX_RUN_TIME = 50;
+    private static final int FEW_PROCESSORS = 4;
+    private static final int MANY_PROCESSORS = 64;
+    private static final long SEED = 42L;
+
+    @State(Scope.Thread)
+    public static class Simulation {
+        // 비워 두면 모든 엔진, 모든 알고리즘
+        @Param
+        public SimulationEngine engine;
+
+        @Param
+        public SchedulingAlgorithm algorithm;
+
+        @Param({"4", "64"})
+        public int processors;
+
+        private SimulationConfig config;
+
+        @Setup
+        public void setUp() {
+            config = SimulationConfig.builder()
+                    .simulationEngine(engine)
+                    .schedulingAlgorithm(algorithm)
+                    .numProcessors(processors)
+                    .numProcesses(NUM_PROCESSES)
+                    .processGenerationTimeLimit(NUM_PROCESSES)
+                    .maxProcessRunTime(MAX_RUN_TIME)
+                    .traceMode(TraceMode.OFF)
+                    .seed(SEED)
+                    .build();
+        }
+    }
+
+    // 같은 작업량에서 배치 전략별 비용 비교 (프로세서가 많을수록 차이가 커진다)
+    @State(Scope.Thread)
+    public static class Placement {
+        @Param
+        public PlacementAlgorithm placement;
+
+        private SimulationConfig config;
+
+        @Setup
+        public void setUp() {
+            config = SimulationConfig.builder()
+                    .schedulingAlgorithm(SchedulingAlgorithm.SRJF)
+                    .numProcessors(MANY_PROCESSORS)
+                    .numProcesses(NUM_PROCESSES)
+                    .processGenerationTimeLimit(NUM_PROCESSES / 4)
+                    .maxProcessRunTime(MAX_RUN_TIME)
+                    .placementAlgorithm(placement)
+                    .traceMode(TraceMode.OFF)
+                    .seed(SEED)
+                    .build();
+        }
+    }
+
+    // 같은 작업량에서 Banker's 회피와 교착 탐지-복구의 할당 비용 비교 (자원 경쟁이 심하도록 프로세서를 적게 둔다)
+    @State(Scope.Thread)
+    public static class Avoidance {
+        private final SimulationConfig config = admissionConfig(AdmissionMode.AVOIDANCE, VictimPolicy.YOUNGEST);
+    }
+
+    @State(Scope.Thread)
+    public static class Detection {
+        @Param
+        public VictimPolicy victimPolicy;
+
+        private SimulationConfig config;
+
+        @Setup
+        public void setUp() {
+            config = admissionConfig(AdmissionMode.DETECTION, victimPolicy);
+        }
+    }
+
+    private static SimulationConfig admissionConfig(AdmissionMode admissionMode, VictimPolicy victimPolicy) {
+        return SimulationConfig.builder()
+                .numProcessors(FEW_PROCESSORS)
+                .numProcesses(NUM_PROCESSES)
+                .processGenerationTimeLimit(NUM_PROCESSES)
+                .maxProcessRunTime(MAX_RUN_TIME)
+                .admissionMode(admissionMode)
+                .victimPolicy(victimPolicy)
+                .traceMode(TraceMode.OFF)
+                .seed(SEED)
+                .build();
+    }
+
+    @Benchmark
+    public int simulate(Simulation state) {
+        return new ProcessSimulator(state.config).simulate().finishTime();
+    }
+
+    @Benchmark
+    public int place(Placement state) {
+        return new ProcessSimulator(state.config).simulate().finishTime();
+    }
+
+    @Benchmark
+    public int admitAvoidance(Avoidance state) {
+        return new ProcessSimulator(state.config).simulate().finishTime();
+    }
+
+    @Benchmark
+    public int admitDetection(Detection state) {
+        return new ProcessSimulator(state.config).simulate().finishTime();
+    }
+}
@@ -0,0 +1,68 @@
+package os.scheduling.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+import os.scheduling.model.ProcessTable;
+import os.scheduling.service.TaskScheduler;
+import os.scheduling.strategy.SchedulingStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 준비 큐 크기별 선택 비용: Processor.checkAndAssignProcess 처럼 실행 중인 프로세스와 비교해 교체 여부를 판단하고,
+// 교체하면 다음 프로세스를 꺼낸 뒤 실행 중이던 프로세스를 선점 처리해 다시 넣는다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StrategyBenchmarks {
+    private static final int TIME_QUANTUM = 3;
+
+    // 비워 두면 모든 알고리즘
+    @Param
+    public SchedulingAlgorithm algorithm;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int queueSize;
+
+    private SchedulingStrategy strategy;
+    private ProcessQueue readyQueue;
+    private Process currentProcess;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        strategy = TaskScheduler.getStrategy(algorithm);
+        readyQueue = strategy.createReadyQueue();
+        ProcessTable processTable = new ProcessTable(1, queueSize + 1);
+        for (int i = 0; i < queueSize; i++) {
+            readyQueue.enqueue(processTable.add(i, new int[]{0}, random.nextInt(1, 1_001), 0));
+        }
+        currentProcess = processTable.add(queueSize, new int[]{0}, random.nextInt(1, 1_001), 0);
+    }
+
+    @Benchmark
+    public int selectNextProcess() {
+        if (strategy.shouldSwitchProcess(readyQueue, currentProcess, TIME_QUANTUM, TIME_QUANTUM)) {
+            Process selectedProcess = readyQueue.dequeue();
+            strategy.onPreempted(currentProcess, TIME_QUANTUM, TIME_QUANTUM);
+            readyQueue.enqueue(currentProcess);
+            currentProcess = selectedProcess;
+        }
+        return currentProcess.getId();
+    }
+}
@@ -0,0 +1,165 @@
+package os.scheduling.bench;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.SimulationEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 기준 규모에서 한 번에 한 축(프로세스 수, 프로세서 수, 자원 종류 수)만 키우며 ScalingBenchmarks 를 JMH 로 돌리고,
+// 시뮬레이션 틱당 시간과 할당 바이트의 증가 지수를 log-log 최소제곱으로 맞춘다
+// 전체 맞춤 지수나 가장 큰 두 규모 사이의 지수가 선언한 복잡도 + 허용치를 넘으면 실패한다
+// 할당 바이트는 입력이 같으면 같으므로 항상 검사하고, 시간은 같은 입력에서도 몇 배씩 흔들리므로 출력만 한다
+// mvn -f bench/pom.xml test (-Dscaling.axis=processors 로 축 하나만,
+//                            -Dscaling.time=true 로 여러 포크의 최솟값으로 시간도 넓은 허용치로 검사)
+class ScalingTest {
+    private static final int BASE_PROCESSES = 1_000;
+    private static final int BASE_RESOURCE_TYPES = 5;
+    // 두 규모 차이가 10 배 이상이므로, 로그 인자가 하나 더 붙으면 지수가 0.1 이상 오른다
+    private static final double FITTED_TOLERANCE = 0.1;
+    // 두 점만으로 맞추는 지수는 잡음을 더 탄다
+    private static final double LARGEST_STEP_TOLERANCE = 0.2;
+    // 시간 검사는 선택 사항이고, 포크별 최솟값을 써도 남는 잡음을 감안해 허용치를 넓게 둔다
+    private static final boolean IS_TIME_CHECKED = Boolean.getBoolean("scaling.time");
+    private static final int TIME_FORKS = 3;
+    private static final double TIME_TOLERANCE = 0.35;
+    // 이보다 작은 값은 상수 비용으로 보고 이 값으로 올려서 맞춘다 (작은 규모의 잡음이 지수를 키우지 않게)
+    private static final double MIN_NANOS_PER_TICK = 50;
+    private static final double MIN_BYTES_PER_TICK = 256;
+
+    // 선언한 복잡도: 틱당 비용이 축 값의 몇 제곱으로 늘어도 되는지
+    private record Axis(String name, int[] values, double timeExponent, double bytesExponent) {
+    }
+
+    private static final List<Axis> AXES = List.of(
+            // 도착률이 같으므로 전체 작업 수는 틱당 비용에 영향이 없어야 한다 (워밍업이 대부분인 아주 작은 규모는 뺀다)
+            new Axis("processes", new int[]{1_000, 10_000, 100_000}, 0, 0),
+            // 도착률을 프로세서 수에 비례시키므로 틱마다 프로세서 수만큼의 작업이 돈다
+            // 작업 수도 프로세서 수에 비례시켜, 어느 규모에서나 시뮬레이션이 같은 틱 수만큼 이어지게 한다
+            new Axis("processors", new int[]{2, 8, 32, 128, 512}, 1, 1),
+            new Axis("resourceTypes", new int[]{5, 50, 500}, 1, 1));
+
+    // 선형 탐색 큐와 틱 엔진, 힙 큐와 이벤트 엔진
+    private record Scenario(SchedulingAlgorithm algorithm, SimulationEngine engine) {
+    }
+
+    private static final List<Scenario> SCENARIOS = List.of(
+            new Scenario(SchedulingAlgorithm.FCFS, SimulationEngine.TICK),
+            new Scenario(SchedulingAlgorithm.SRJF, SimulationEngine.EVENT));
+
+    private record Measurement(int ticks, double nanosPerTick, double bytesPerTick) {
+    }
+
+    @Test
+    void costPerTickGrowsNoFasterThanDeclared() throws RunnerException {
+        String filter = System.getProperty("scaling.axis", "");
+        List<String> failures = new ArrayList<>();
+        for (Scenario scenario : SCENARIOS) {
+            for (Axis axis : AXES) {
+                if (!axis.name().contains(filter)) {
+                    continue;
+                }
+                double[] nanos = new double[axis.values().length];
+                double[] bytes = new double[axis.values().length];
+                for (int k = 0; k < axis.values().length; k++) {
+                    int value = axis.values()[k];
+                    int processors = axis.name().equals("processors") ? value : ScalingBenchmarks.BASE_PROCESSORS;
+                    int processes = axis.name().equals("processes")
+                            ? value : BASE_PROCESSES * processors / ScalingBenchmarks.BASE_PROCESSORS;
+                    int resourceTypes = axis.name().equals("resourceTypes") ? value : BASE_RESOURCE_TYPES;
+                    Measurement measurement = measure(scenario, processes, processors, resourceTypes);
+                    nanos[k] = measurement.nanosPerTick();
+                    bytes[k] = measurement.bytesPerTick();
+                    System.out.printf("%-5s %-5s %-14s n=%-7d procs=%-4d types=%-4d %7d ticks %10.1f ns/tick %10.1f B/tick%n",
+                            scenario.algorithm(), scenario.engine(), axis.name(), processes, processors, resourceTypes,
+                            measurement.ticks(), measurement.nanosPerTick(), measurement.bytesPerTick());
+                }
+                check(failures, IS_TIME_CHECKED, scenario, axis, "time", nanos, MIN_NANOS_PER_TICK,
+                        axis.timeExponent(), TIME_TOLERANCE, TIME_TOLERANCE);
+                check(failures, true, scenario, axis, "bytes", bytes, MIN_BYTES_PER_TICK,
+                        axis.bytesExponent(), FITTED_TOLERANCE, LARGEST_STEP_TOLERANCE);
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join(System.lineSeparator(), failures));
+    }
+
+    // 포크한 JVM 에서 워밍업 뒤 측정한 연산당 평균 시간과 할당 바이트(-prof gc)를 틱 수로 나눈다
+    // 시간을 검사할 때는 여러 번 포크해 가장 빠른 포크의 평균을 쓴다 (다른 작업에 밀린 포크를 버린다)
+    private static Measurement measure(Scenario scenario, int processes, int processors, int resourceTypes)
+            throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScalingBenchmarks.class.getName() + ".simulate")
+                .param("processes", String.valueOf(processes))
+                .param("processors", String.valueOf(processors))
+                .param("resourceTypes", String.valueOf(resourceTypes))
+                .param("algorithm", scenario.algorithm().name())
+                .param("engine", scenario.engine().name())
+                .addProfiler(GCProfiler.class)
+                .forks(IS_TIME_CHECKED ? TIME_FORKS : 1)
+                .verbosity(VerboseMode.SILENT)
+                .build();
+        RunResult result = new Runner(options).runSingle();
+        int ticks = ScalingBenchmarks.ticks(processes, processors, resourceTypes, scenario.algorithm(), scenario.engine());
+        double micros = Double.MAX_VALUE;
+        for (BenchmarkResult fork : result.getBenchmarkResults()) {
+            micros = Math.min(micros, fork.getPrimaryResult().getScore());
+        }
+        double bytes = result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+        return new Measurement(ticks, micros * 1_000 / ticks, bytes / ticks);
+    }
+
+    // isEnforced 가 아니면 결과만 출력한다
+    private static void check(List<String> failures, boolean isEnforced, Scenario scenario, Axis axis, String metric,
+                              double[] costs, double floor, double declared, double fittedTolerance, double largestStepTolerance) {
+        int[] values = axis.values();
+        double[] logValues = new double[values.length];
+        double[] logCosts = new double[values.length];
+        for (int k = 0; k < values.length; k++) {
+            logValues[k] = Math.log(values[k]);
+            logCosts[k] = Math.log(Math.max(costs[k], floor));
+        }
+        double fitted = slope(logValues, logCosts, 0, values.length);
+        double largest = slope(logValues, logCosts, values.length - 2, values.length);
+        boolean isFailed = fitted > declared + fittedTolerance || largest > declared + largestStepTolerance;
+        String line = String.format("%s/%s %s %s: fitted exponent %.2f (limit %.2f), largest step %.2f (limit %.2f)",
+                scenario.algorithm(), scenario.engine(), axis.name(), metric,
+                fitted, declared + fittedTolerance, largest, declared + largestStepTolerance);
+        if (!isEnforced) {
+            System.out.println(line + " (not checked)");
+            return;
+        }
+        System.out.println(line + (isFailed ? " FAIL" : " ok"));
+        if (isFailed) {
+            failures.add(line);
+        }
+    }
+
+    // [from, to) 구간 점들의 최소제곱 기울기
+    private static double slope(double[] x, double[] y, int from, int to) {
+        int count = to - from;
+        double meanX = 0;
+        double meanY = 0;
+        for (int k = from; k < to; k++) {
+            meanX += x[k] / count;
+            meanY += y[k] / count;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (int k = from; k < to; k++) {
+            covariance += (x[k] - meanX) * (y[k] - meanY);
+            variance += (x[k] - meanX) * (x[k] - meanX);
+        }
+        return covariance / variance;
+    }
+}
@@ -0,0 +1,80 @@
+package os.scheduling.bench;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import os.scheduling.ProcessSimulator;
+import os.scheduling.SimulationResult;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.TraceMode;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.ProcessTable;
+import os.scheduling.workload.SyntheticDispatchCursor;
+import os.scheduling.workload.TraceFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 티켓 수가 트레이스와 생성 설정에서 실제로 들어오고, 추첨/보폭 스케줄링의 CPU 몫이 티켓 비율을 따르는지 본다
+class TicketShareTest {
+    private static final int RUN_TIME = 3_000;
+    private static final int BASE_TICKETS = 100;
+    // 추첨은 할당 시간마다 한 번 뽑으므로 몫에 표본 오차가 있다 (뽑는 횟수 약 1000 번, 표준 편차 1.5% 이하)
+    private static final double TOLERANCE = 0.05;
+
+    // 프로세서 하나에 같은 실행 시간의 두 작업을 동시에 올리면, 티켓이 많은 쪽이 먼저 끝날 때까지 두 작업이 CPU 를 나눠 쓴다
+    // 그 작업의 반환 시간이 RUN_TIME / 몫 이므로, 가장 짧은 반환 시간에서 몫을 얻는다
+    @ParameterizedTest
+    @EnumSource(value = SchedulingAlgorithm.class, names = {"LOTTERY", "STRIDE"})
+    void cpuShareFollowsTicketRatio(SchedulingAlgorithm algorithm, @TempDir Path directory) throws IOException {
+        for (int ratio : new int[]{1, 3, 9}) {
+            Path trace = directory.resolve("tickets-" + ratio + ".csv");
+            Files.writeString(trace, String.join(System.lineSeparator(),
+                    "# processId,dispatchTime,runTime,r0,deadline,tickets",
+                    "1,0," + RUN_TIME + ",0," + ProcessTable.NO_DEADLINE + "," + BASE_TICKETS,
+                    "2,0," + RUN_TIME + ",0," + ProcessTable.NO_DEADLINE + "," + BASE_TICKETS * ratio));
+            SimulationConfig config = SimulationConfig.builder()
+                    .numProcessors(1)
+                    .givenResources(new int[]{1})
+                    .schedulingAlgorithm(algorithm)
+                    .traceMode(TraceMode.OFF)
+                    .seed(42L)
+                    .build();
+            SimulationResult result = new ProcessSimulator(config, TraceFiles.open(trace, 1)).simulate();
+
+            double share = (double) RUN_TIME / result.metrics().getTurnaroundTimes().getMin();
+            double expected = (double) ratio / (ratio + 1);
+            System.out.printf("%-7s tickets 1:%d  share %.3f (expected %.3f)%n", algorithm, ratio, share, expected);
+            assertEquals(2, result.completedProcesses());
+            assertEquals(expected, share, TOLERANCE, algorithm + " share for tickets 1:" + ratio);
+        }
+    }
+
+    @Test
+    void generatedTicketsSpanConfiguredRange() {
+        int maxTickets = 10;
+        SimulationConfig config = SimulationConfig.builder()
+                .numProcesses(1_000)
+                .processGenerationTimeLimit(1_000)
+                .streamingWorkload(true)
+                .maxTickets(maxTickets)
+                .seed(42L)
+                .build();
+        int[] counts = new int[maxTickets + 1];
+        SyntheticDispatchCursor dispatches = new SyntheticDispatchCursor(config);
+        while (dispatches.hasNext()) {
+            ProcessDispatch dispatch = dispatches.next();
+            assertTrue(dispatch.tickets() >= 1 && dispatch.tickets() <= maxTickets, dispatch.toString());
+            counts[dispatch.tickets()]++;
+        }
+        for (int tickets = 1; tickets <= maxTickets; tickets++) {
+            assertTrue(counts[tickets] > 0, "no process drew " + tickets + " tickets");
+        }
+    }
+}
@@ -1,26 +1,163 @@
 package os.scheduling;
 
-import os.scheduling.enums.Constants;
+import os.scheduling.checkpoint.CheckpointWriter;
+import os.scheduling.checkpoint.SimulationCheckpoint;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.SimulationEngine;
+import os.scheduling.enums.SwitchReason;
+import os.scheduling.metrics.SimulationMetrics;
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.IoDevice;
 import os.scheduling.model.Process;
 import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.ProcessTable;
 import os.scheduling.model.Processor;
+import os.scheduling.placement.PlacementStrategy;
+import os.scheduling.placement.StealVictimHeap;
+import os.scheduling.service.DeadlockDetector;
+import os.scheduling.service.LoadBalancer;
 import os.scheduling.service.ResourceManager;
-
+import os.scheduling.submission.ProcessCompletion;
+import os.scheduling.submission.ProcessSubmission;
+import os.scheduling.submission.ProcessSubmissionQueue;
+import os.scheduling.trace.TimelineRecorder;
+import os.scheduling.trace.TraceSink;
+import os.scheduling.trace.TraceSinks;
+import os.scheduling.workload.DispatchCursor;
+import os.scheduling.workload.ListDispatchCursor;
+import os.scheduling.workload.SyntheticDispatchCursor;
+import os.scheduling.workload.TraceFiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public class ProcessSimulator {
+    private final SimulationConfig config;
     private int currentTime = 0;
     private boolean isSolvable = true;
+    private boolean isResourceReleased = false;
+    private boolean hasArrivals = false;
     private final List<Processor> processorList = new ArrayList<>();
+    private final List<IoDevice> ioDevices = new ArrayList<>();
     private final List<Process> processWaitingList = new ArrayList<>();
-    private final List<ProcessDispatch> processDispatches = new ArrayList<>();
-    private final int[] currentResources = Arrays.copyOf(Constants.GIVEN_RESOURCES, Constants.GIVEN_RESOURCES.length);
-    private final Random random = new Random();
+    private DispatchCursor dispatchCursor;
+    private final int[] givenResources;
+    private final int[] currentResources;
+    private final ResourceManager resourceManager;
+    // DETECTION 모드에서만 사용 (AVOIDANCE 모드면 null)
+    private final DeadlockDetector deadlockDetector;
+    private int nextDetectionTime = 0;
+    private boolean hasUnsatisfiableProcess = false;
+    private final PlacementStrategy placementStrategy;
+    // 작업 훔치기를 켜지 않으면 null
+    private final StealVictimHeap stealVictims;
+    private final ProcessTable processTable;
+    private final List<Process> selectedProcesses = new ArrayList<>();
+    private final Random random;
+    // 마감 시각과 티켓 수는 별도 난수열에서 뽑아, 기존 시드로 생성되는 작업 목록이 바뀌지 않게 한다
+    private final SplittableRandom deadlineRandom;
+    private final SplittableRandom ioRandom;
+    private final SplittableRandom ticketRandom;
+    private final ForkJoinPool processorPool;
+    private final TraceSink traceSink;
+    // 점유 구간을 기록하지 않으면 null
+    private final TimelineRecorder timeline;
+    private Process[] finishedProcessByProcessor;
+    private Process[] blockedProcessByProcessor;
+    private final IntConsumer assignAndRunPhase = this::checkAndAssignProcess;
+    private final IntConsumer cleanupPhase = this::cleanupProcess;
+    private int skippedTicks = 0;
+    private final IntConsumer advancePhase = i -> processorList.get(i).advance(skippedTicks);
+    private int completedProcessCount = 0;
+    private final SimulationMetrics metrics;
+    private final CheckpointWriter checkpointWriter;
+    private int nextCheckpointTime;
+    // openSubmissions 를 호출하면 실행 중에 다른 스레드가 제출한 프로세스도 받는다
+    private ProcessSubmissionQueue submissions;
+    private final Map<Process, ProcessSubmission> submittedProcesses = new IdentityHashMap<>();
 
     public ProcessSimulator() {
+        this(SimulationConfig.defaults());
+    }
+
+    public ProcessSimulator(SimulationConfig config) {
+        this(config, null);
+    }
+
+    // dispatches 가 null 이면 설정에 따라 무작위 작업을 생성한다
+    public ProcessSimulator(SimulationConfig config, DispatchCursor dispatches) {
+        this.config = config;
+        this.givenResources = config.getGivenResources();
+        this.currentResources = Arrays.copyOf(givenResources, givenResources.length);
+        this.resourceManager = new ResourceManager(givenResources, config.getAdmissionCacheSize(), config.getResourceLayout());
+        this.deadlockDetector = config.getAdmissionMode() == AdmissionMode.DETECTION
+                ? new DeadlockDetector(givenResources, config.getVictimPolicy())
+                : null;
+        this.placementStrategy = LoadBalancer.createStrategy(config.getPlacementAlgorithm(), config.getNumProcessors(), config.getSeed());
+        this.stealVictims = config.isWorkStealing() ? new StealVictimHeap(config.getNumProcessors()) : null;
+        this.processTable = new ProcessTable(givenResources.length, config.getResourceLayout());
+        this.random = new Random(config.getSeed());
+        this.deadlineRandom = new SplittableRandom(config.getSeed());
+        this.ioRandom = new SplittableRandom(~config.getSeed());
+        this.ticketRandom = new SplittableRandom(config.getSeed()).split();
+        this.processorPool = config.getProcessorSteppingParallelism() > 1
+                ? new ForkJoinPool(config.getProcessorSteppingParallelism())
+                : null;
+        this.traceSink = TraceSinks.open(config);
+        this.timeline = config.isRecordTimeline() ? TimelineRecorder.open(config.getTimelinePath(), config.getNumProcessors()) : null;
+        this.metrics = new SimulationMetrics(config.getNumProcessors());
+        this.checkpointWriter = config.getCheckpointInterval() > 0 ? new CheckpointWriter(config.getCheckpointPath()) : null;
+        this.nextCheckpointTime = config.getCheckpointInterval();
         initializeProcessors();
-        generateRandomDispatchSchedule();
+        initializeIoDevices();
+        if (dispatches == null) {
+            generateRandomDispatchSchedule();
+        } else {
+            this.dispatchCursor = dispatches;
+        }
+    }
+
+    // 체크포인트 시점의 상태에서 이어서 실행한다. 남은 작업은 체크포인트에 저장된 목록에서 읽는다
+    public static ProcessSimulator restore(SimulationCheckpoint checkpoint, SimulationConfig config) {
+        checkpoint.checkCompatible(config);
+        ProcessSimulator simulator = new ProcessSimulator(config, checkpoint.openPendingDispatches());
+        try {
+            simulator.restoreState(checkpoint.openState());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt checkpoint state", e);
+        }
+        simulator.nextCheckpointTime = simulator.currentTime + config.getCheckpointInterval();
+        return simulator;
+    }
+
+    // 틱 사이에서 호출해야 한다 (simulate 가 진행 중이면 주기적 체크포인트를 사용)
+    public SimulationCheckpoint checkpoint() {
+        if (submissions != null) {
+            throw new IllegalStateException("Checkpoints cannot capture submitted processes");
+        }
+        return SimulationCheckpoint.capture(config, currentTime, captureState(), dispatchCursor.fork());
+    }
+
+    // simulate 전에 호출한다. 큐가 닫히고 제출한 프로세스가 모두 끝나야 simulate 가 끝나며, 할 일이 없으면 다음 제출을 기다린다
+    // 생성하는 작업은 1..numProcesses 로 번호를 매기므로, 제출한 프로세스는 numProcesses + 1 부터 매긴다
+    public ProcessSubmissionQueue openSubmissions(int backlogLimit) {
+        if (submissions != null) {
+            throw new IllegalStateException("Submissions are already open");
+        }
+        if (checkpointWriter != null) {
+            throw new IllegalStateException("Checkpoints cannot capture submitted processes");
+        }
+        submissions = new ProcessSubmissionQueue(givenResources, backlogLimit, config.getNumProcesses() + 1);
+        return submissions;
     }
 
     private void setSolvable(boolean b) {
@@ -33,114 +170,492 @@ public class ProcessSimulator {
 
     public void putProcessToWaitingList(Process processToPut) {
         processWaitingList.add(processToPut);
+        if (deadlockDetector == null) {
+            resourceManager.addWaitingProcess(processToPut);
+        } else if (deadlockDetector.exceedsTotal(processToPut)) {
+            hasUnsatisfiableProcess = true;
+        }
     }
 
     private void initializeProcessors() {
-        for (int i = 0; i < Constants.NUM_PROCESSORS; i++) {
-            processorList.add(new Processor(Constants.timeQuantum, Constants.PROCESSOR_SCHEDULING_ALGORITHM));
+        for (int i = 0; i < config.getNumProcessors(); i++) {
+            processorList.add(new Processor(i, config.getTimeQuantum(), config.getSchedulingAlgorithm(), config.getSeed() * 31 + i,
+                    config.getContextSwitchCost(), config.getMigrationCost()));
+        }
+        finishedProcessByProcessor = new Process[processorList.size()];
+        blockedProcessByProcessor = new Process[processorList.size()];
+    }
+
+    private void initializeIoDevices() {
+        for (int i = 0; i < config.getIoDevices(); i++) {
+            ioDevices.add(new IoDevice());
         }
     }
 
     public void generateRandomDispatchSchedule() {
-        List<Integer> dispatchTimes = generateSortedRandomTimes();
-        printDispatchHeader();
+        // 스트리밍 생성은 작업을 미리 만들지 않으므로 목록도 출력하지 않는다 (시드와 설정으로 재현한다)
+        if (config.isStreamingWorkload()) {
+            dispatchCursor = new SyntheticDispatchCursor(config);
+            return;
+        }
+        int[] dispatchTimes = generateSortedRandomTimes();
+        List<ProcessDispatch> processDispatches = new ArrayList<>(config.getNumProcesses());
+        // 특정 시각부터 재현할 때는 목록 대신 시드만 남긴다
+        boolean isListingDispatches = config.getTraceStartTime() == 0;
+        if (isListingDispatches) {
+            traceSink.generatedDispatchesStarted();
+        }
 
-        for (int i = 0; i < Constants.NUM_PROCESSES; i++) {
-            ProcessDispatch dispatch = createProcessDispatch(i, dispatchTimes.get(i));
+        for (int i = 0; i < config.getNumProcesses(); i++) {
+            ProcessDispatch dispatch = createProcessDispatch(i, dispatchTimes[i]);
             processDispatches.add(dispatch);
-            System.out.println(dispatch);
+            if (isListingDispatches) {
+                traceSink.generatedDispatch(dispatch);
+            }
         }
+        dispatchCursor = new ListDispatchCursor(processDispatches);
     }
 
-    private List<Integer> generateSortedRandomTimes() {
-        return random.ints(0, Constants.PROCESS_GENERATION_TIME_LIMIT + 1)
-                .limit(Constants.NUM_PROCESSES)
+    private int[] generateSortedRandomTimes() {
+        return random.ints(0, config.getProcessGenerationTimeLimit() + 1)
+                .limit(config.getNumProcesses())
                 .sorted()
-                .boxed()
-                .collect(Collectors.toList());
+                .toArray();
     }
 
     private ProcessDispatch createProcessDispatch(int processIndex, int dispatchTime) {
-        int runTime = random.nextInt(Constants.MAX_PROCESS_RUN_TIME) + 1;
-        int[] resources = new int[Constants.NUM_OF_RESOURCE_TYPES];
-        for (int j = 0; j < Constants.NUM_OF_RESOURCE_TYPES; j++) {
-            resources[j] = random.nextInt((Constants.GIVEN_RESOURCES[j] / 2) + 1);
+        int runTime = random.nextInt(config.getMaxProcessRunTime()) + 1;
+        int[] resources = new int[givenResources.length];
+        for (int j = 0; j < givenResources.length; j++) {
+            resources[j] = random.nextInt((givenResources[j] / 2) + 1);
         }
-        return new ProcessDispatch(processIndex + 1, dispatchTime, runTime, resources);
+        int deadline = dispatchTime + runTime + deadlineRandom.nextInt(runTime * config.getDeadlineSlack() + 1);
+        int tickets = config.getMaxTickets() == 0 ? ProcessTable.DEFAULT_TICKETS : ticketRandom.nextInt(config.getMaxTickets()) + 1;
+        if (ioDevices.isEmpty()) {
+            return new ProcessDispatch(processIndex + 1, dispatchTime, runTime, resources, deadline, ProcessDispatch.NO_IO_BURSTS, tickets);
+        }
+        IoBurst[] ioBursts = createIoBursts(runTime);
+        for (IoBurst burst : ioBursts) {
+            deadline += burst.ioTime();
+        }
+        return new ProcessDispatch(processIndex + 1, dispatchTime, runTime, resources, deadline, ioBursts, tickets);
     }
 
-    private void printDispatchHeader() {
-        System.out.println("================================================");
-        System.out.println("Generated tasks: [task number, dispatch time, expected run time, required resources]");
+    // 실행 시간을 서로 다른 무작위 지점에서 끊어 그 사이에 입출력을 넣는다 (마지막 CPU 구간은 1 틱 이상 남는다)
+    private IoBurst[] createIoBursts(int runTime) {
+        int count = ioRandom.nextInt(Math.min(config.getMaxIoBursts(), runTime - 1) + 1);
+        if (count == 0) {
+            return ProcessDispatch.NO_IO_BURSTS;
+        }
+        int[] cuts = ioRandom.ints(1, runTime).distinct().limit(count).sorted().toArray();
+        IoBurst[] ioBursts = new IoBurst[cuts.length];
+        int previousCut = 0;
+        for (int k = 0; k < cuts.length; k++) {
+            ioBursts[k] = new IoBurst(cuts[k] - previousCut, ioRandom.nextInt(ioDevices.size()), ioRandom.nextInt(config.getMaxIoTime()) + 1);
+            previousCut = cuts[k];
+        }
+        return ioBursts;
     }
 
+    // 사용법: ProcessSimulator [--seed <시드>] [--trace-from <틱>] [--timeline <점유 구간 파일>] [트레이스.csv | 트레이스.bin | 체크포인트.ckpt]
+    // 파일을 주면 무작위 생성 대신 파일에서 작업을 읽거나 체크포인트에서 이어서 실행한다 (체크포인트는 저장된 시드를 쓴다)
+    // 출력 첫 줄의 시드를 --seed 로 넘기고 --trace-from 으로 관심 있는 틱부터 출력하면 같은 실행을 빠르게 재현할 수 있다
     public static void main(String[] args) {
-        ProcessSimulator simulator = new ProcessSimulator();
+        SimulationConfig.Builder builder = SimulationConfig.builder();
+        Integer traceStartTime = null;
+        Path timelinePath = null;
+        Path input = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed" -> builder.seed(Long.parseLong(args[++i]));
+                case "--trace-from" -> traceStartTime = Integer.parseInt(args[++i]);
+                case "--timeline" -> timelinePath = Path.of(args[++i]);
+                default -> input = Path.of(args[i]);
+            }
+        }
+
+        ProcessSimulator simulator;
+        if (input != null && input.toString().endsWith(".ckpt")) {
+            SimulationCheckpoint checkpoint = readCheckpoint(input);
+            SimulationConfig.Builder restored = checkpoint.getConfig().toBuilder();
+            if (traceStartTime != null) {
+                restored.traceStartTime(traceStartTime);
+            }
+            if (timelinePath != null) {
+                restored.recordTimeline(true).timelinePath(timelinePath);
+            }
+            simulator = restore(checkpoint, restored.build());
+        } else {
+            if (traceStartTime != null) {
+                builder.traceStartTime(traceStartTime);
+            }
+            if (timelinePath != null) {
+                builder.recordTimeline(true).timelinePath(timelinePath);
+            }
+            SimulationConfig config = builder.build();
+            simulator = input == null
+                    ? new ProcessSimulator(config)
+                    : new ProcessSimulator(config, TraceFiles.open(input, config.getNumOfResourceTypes()));
+        }
         simulator.simulate();
     }
 
-    public void simulate() {
-        System.out.println("#PROC #TICK : PROC ID     | # CPU WAIT | # WAITING QUEUE | CURRENT RESOURCES");
-        System.out.println("-------------------------------------------------------------------------------");
+    private static SimulationCheckpoint readCheckpoint(Path path) {
+        try {
+            return SimulationCheckpoint.read(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read checkpoint " + path, e);
+        }
+    }
+
+    public SimulationResult simulate() {
+        try {
+            traceSink.simulationStarted(describeRun());
+            while (isSolvable) {
+                checkpointIfDue();
+                awaitSubmissionsIfIdle();
+                if (processTick()) break;
+                // 출력 시작 전에는 이벤트 엔진으로 빨리 감는다 (결과는 틱 단위 실행과 같다)
+                if (config.getSimulationEngine() == SimulationEngine.EVENT || isFastForwarding()) {
+                    skipToNextEvent();
+                }
+            }
+            traceSink.finished();
+            if (timeline != null) {
+                timeline.finish(currentTime);
+            }
+            metrics.recordRun(processorList, currentTime);
+            if (!ioDevices.isEmpty()) {
+                metrics.recordIoDevices(ioDevices, currentTime);
+            }
+            traceSink.summary(metrics);
+        } finally {
+            traceSink.close();
+            if (timeline != null) {
+                timeline.close();
+            }
+            if (checkpointWriter != null) {
+                checkpointWriter.close();
+            }
+            dispatchCursor.close();
+            if (processorPool != null) {
+                processorPool.shutdown();
+            }
+            if (submissions != null) {
+                failPendingSubmissions();
+            }
+        }
+        return new SimulationResult(config.getSeed(), isSolvable, currentTime, completedProcessCount,
+                metrics);
+    }
+
+    private String describeRun() {
+        String description = config.toString();
+        if (currentTime > 0) {
+            description += " resumed at T" + currentTime;
+        }
+        if (config.getTraceStartTime() > 0) {
+            description += " tracing from T" + config.getTraceStartTime();
+        }
+        return description;
+    }
+
+    private boolean isFastForwarding() {
+        return currentTime < config.getTraceStartTime();
+    }
 
-        while (isSolvable) {
-            if (processTick()) break;
+    // 상태는 이 스레드에서 바이트 배열로 복사하고, 남은 작업 목록은 복제한 커서로 쓰기 스레드가 읽는다
+    private void checkpointIfDue() {
+        if (checkpointWriter == null || currentTime < nextCheckpointTime) {
+            return;
+        }
+        nextCheckpointTime = currentTime + config.getCheckpointInterval();
+        if (!checkpointWriter.isBusy()) {
+            checkpointWriter.submit(config, currentTime, captureState(), dispatchCursor.fork());
         }
-        System.out.println("Finish!");
+    }
+
+    // 대기 목록, 실행 중, 준비 큐에 있는 프로세스만 살아 있으므로 이들을 번호 매겨 기록하고 나머지 구조는 번호로 가리킨다
+    private byte[] captureState() {
+        Map<Process, Integer> processIndices = new IdentityHashMap<>();
+        List<Process> liveProcesses = new ArrayList<>();
+        for (Process process : processWaitingList) {
+            addLiveProcess(process, processIndices, liveProcesses);
+        }
+        for (Processor processor : processorList) {
+            addLiveProcess(processor.getCurrentProcess(), processIndices, liveProcesses);
+            for (Process process : processor.getReadyQueue()) {
+                addLiveProcess(process, processIndices, liveProcesses);
+            }
+        }
+        for (IoDevice device : ioDevices) {
+            for (Process process : device.getQueue()) {
+                addLiveProcess(process, processIndices, liveProcesses);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(currentTime);
+            out.writeBoolean(isSolvable);
+            out.writeBoolean(isResourceReleased);
+            out.writeInt(completedProcessCount);
+            out.writeInt(nextDetectionTime);
+            for (int resource : currentResources) {
+                out.writeInt(resource);
+            }
+            out.writeInt(liveProcesses.size());
+            for (Process process : liveProcesses) {
+                processTable.writeProcess(out, process);
+            }
+            out.writeInt(processWaitingList.size());
+            for (Process process : processWaitingList) {
+                out.writeInt(processIndices.get(process));
+            }
+            for (Processor processor : processorList) {
+                processor.writeState(out, processIndices::get);
+            }
+            for (IoDevice device : ioDevices) {
+                device.writeState(out, processIndices::get);
+            }
+            placementStrategy.writeState(out);
+            metrics.writeState(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void addLiveProcess(Process process, Map<Process, Integer> processIndices, List<Process> liveProcesses) {
+        if (process != null && !processIndices.containsKey(process)) {
+            processIndices.put(process, liveProcesses.size());
+            liveProcesses.add(process);
+        }
+    }
+
+    private void restoreState(DataInput in) throws IOException {
+        currentTime = in.readInt();
+        isSolvable = in.readBoolean();
+        isResourceReleased = in.readBoolean();
+        completedProcessCount = in.readInt();
+        nextDetectionTime = in.readInt();
+        for (int j = 0; j < currentResources.length; j++) {
+            currentResources[j] = in.readInt();
+        }
+        Process[] liveProcesses = new Process[in.readInt()];
+        for (int i = 0; i < liveProcesses.length; i++) {
+            liveProcesses[i] = processTable.readProcess(in);
+        }
+        int waitingCount = in.readInt();
+        for (int i = 0; i < waitingCount; i++) {
+            putProcessToWaitingList(liveProcesses[in.readInt()]);
+        }
+        for (Processor processor : processorList) {
+            processor.readState(in, index -> liveProcesses[index]);
+        }
+        for (IoDevice device : ioDevices) {
+            device.readState(in, index -> liveProcesses[index]);
+        }
+        placementStrategy.readState(in);
+        metrics.readState(in);
     }
 
     private boolean processTick() {
         boolean isDispatchedTasksExists = dispatchProcesses();
         boolean isReadyTaskExists = isReadyTaskExists();
         boolean isFinish = processResourceAssignments();
+        if (config.isWorkStealing()) {
+            stealWork();
+        }
         checkAndAssignProcesses();
+        if (timeline != null) {
+            recordAssignments();
+        }
         printCurrentState();
         cleanupProcesses();
         advanceTime();
         return checkSimulationCompletion(isDispatchedTasksExists, isReadyTaskExists, isFinish);
     }
 
+    // 아무 상태 변화가 없는 틱은 건너뛰고 다음 이벤트 시각으로 바로 이동
+    private void skipToNextEvent() {
+        int nextEventTime = findNextEventTime();
+        if (isFastForwarding()) {
+            nextEventTime = Math.min(nextEventTime, config.getTraceStartTime());
+        }
+        skippedTicks = nextEventTime - currentTime;
+        if (skippedTicks > 0) {
+            forEachProcessor(advancePhase);
+            for (IoDevice device : ioDevices) {
+                device.advance(skippedTicks);
+            }
+            currentTime = nextEventTime;
+        }
+    }
+
+    private int findNextEventTime() {
+        // 반납된 자원으로 대기 중인 프로세스가 할당받을 수 있으므로 다음 틱을 그대로 처리
+        if (isResourceReleased) {
+            return currentTime;
+        }
+        long nextEventTime = Long.MAX_VALUE;
+        if (deadlockDetector != null && !processWaitingList.isEmpty()) {
+            // 모든 프로세서와 장치가 놀면 다음 틱에 탐지하고, 아니면 다음 주기 탐지 시각까지만 건너뛴다
+            if (isSystemIdle()) {
+                return currentTime;
+            }
+            if (config.getDeadlockDetectionInterval() > 0) {
+                nextEventTime = Math.max(nextDetectionTime, currentTime);
+            }
+        }
+        // 입출력을 시작해 자원 반납 없이 비게 된 프로세서는 다음 틱에 작업을 훔친다
+        if (config.isWorkStealing() && hasStealableWork()) {
+            return currentTime;
+        }
+        if (dispatchCursor.hasNext()) {
+            // 커서는 도착 시간 순으로 작업을 내놓음
+            nextEventTime = Math.min(nextEventTime, dispatchCursor.peekDispatchTime());
+        }
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            int ticksUntilNextEvent = processor.ticksUntilNextEvent();
+            if (ticksUntilNextEvent != Processor.NO_EVENT) {
+                nextEventTime = Math.min(nextEventTime, (long) currentTime + ticksUntilNextEvent);
+            }
+        }
+        for (IoDevice device : ioDevices) {
+            int ticksUntilNextEvent = device.ticksUntilNextEvent();
+            if (ticksUntilNextEvent != Processor.NO_EVENT) {
+                nextEventTime = Math.min(nextEventTime, (long) currentTime + ticksUntilNextEvent);
+            }
+        }
+        return nextEventTime == Long.MAX_VALUE ? currentTime : (int) nextEventTime;
+    }
+
     private boolean dispatchProcesses() {
-        if (!processDispatches.isEmpty()) {
+        hasArrivals = false;
+        boolean isDispatching = dispatchCursor.hasNext();
+        if (isDispatching) {
             dispatchProcessesToWaitingList();
+        }
+        if (submissions != null) {
+            isDispatching |= dispatchSubmissions();
+        }
+        if (isDispatching) {
             return true;
         } else {
-            return processorList.stream().anyMatch(processor -> processor.getCurrentProcess() != null);
+            for (int i = 0; i < processorList.size(); i++) {
+                Processor processor = processorList.get(i);
+                if (processor.getCurrentProcess() != null) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
     private void dispatchProcessesToWaitingList() {
-        Iterator<ProcessDispatch> dispatchIterator = processDispatches.iterator();
-        while (dispatchIterator.hasNext()) {
-            ProcessDispatch processDispatch = dispatchIterator.next();
-            if (processDispatch.dispatchTime() == currentTime) {
-                Process newProcess = generateProcessesWithInfo(processDispatch);
-                putProcessToWaitingList(newProcess);
-                dispatchIterator.remove();
+        while (dispatchCursor.hasNext() && dispatchCursor.peekDispatchTime() <= currentTime) {
+            Process newProcess = generateProcessesWithInfo(dispatchCursor.next());
+            putProcessToWaitingList(newProcess);
+            hasArrivals = true;
+        }
+    }
+
+    // 쌓인 제출을 모두 꺼내 이번 틱에 도착한 것으로 처리한다. 앞으로 더 제출될 수 있으면 true
+    private boolean dispatchSubmissions() {
+        boolean isOpen = !submissions.isDrained();
+        ProcessSubmission submission;
+        while ((submission = submissions.poll()) != null) {
+            Process newProcess = processTable.add(submission.processId(), submission.requiredResources(), submission.runTime(), currentTime);
+            submittedProcesses.put(newProcess, submission);
+            putProcessToWaitingList(newProcess);
+            hasArrivals = true;
+        }
+        return isOpen;
+    }
+
+    // 대기 중이거나 실행 중인 프로세스도, 남은 작업도 없으면 시각을 흘려보내지 않고 다음 제출을 기다린다
+    private void awaitSubmissionsIfIdle() {
+        if (submissions == null || isResourceReleased || !processWaitingList.isEmpty() || dispatchCursor.hasNext() || !isEveryIoDeviceIdle()) {
+            return;
+        }
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            if (processor.hasReadyProcess() || !processor.isIdle()) {
+                return;
             }
         }
+        submissions.awaitSubmission();
+    }
+
+    private void completeSubmission(Process process) {
+        ProcessSubmission submission = submittedProcesses.remove(process);
+        if (submission != null) {
+            submission.completion().complete(new ProcessCompletion(process.getId(), process.getArrivalTime(),
+                    process.getFirstRunTime(), process.getCompletionTime(), process.getRunTime()));
+        }
+    }
+
+    // 해결 불가 등으로 먼저 끝나면 남은 제출을 모두 실패로 완료한다
+    private void failPendingSubmissions() {
+        submissions.close();
+        IllegalStateException failure = new IllegalStateException("Simulation ended at T" + currentTime + " before the process completed");
+        for (ProcessSubmission submission : submittedProcesses.values()) {
+            submission.completion().completeExceptionally(failure);
+        }
+        submittedProcesses.clear();
+        ProcessSubmission submission;
+        while ((submission = submissions.poll()) != null) {
+            submission.completion().completeExceptionally(failure);
+        }
     }
 
     public Process generateProcessesWithInfo(ProcessDispatch processDispatch) {
-        return new Process(processDispatch.processId(), processDispatch.resources(), processDispatch.runTime());
+        for (IoBurst burst : processDispatch.ioBursts()) {
+            if (burst.device() >= ioDevices.size()) {
+                throw new IllegalArgumentException("Process " + processDispatch.processId() + " uses I/O device " + burst.device()
+                        + " but only " + ioDevices.size() + " are configured");
+            }
+        }
+        return processTable.add(processDispatch.processId(), processDispatch.resources(), processDispatch.runTime(),
+                processDispatch.dispatchTime(), processDispatch.deadline(), processDispatch.ioBursts(), processDispatch.tickets());
     }
 
     private boolean isReadyTaskExists() {
-        return processorList.stream().anyMatch(processor -> !processor.getReadyQueue().isEmpty());
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            if (processor.hasReadyProcess()) {
+                return true;
+            }
+        }
+        return false;
     }
 
+    // 지난 할당 이후 대기 목록과 가용 자원이 그대로면 결과도 같으므로 다시 검사하지 않는다 (새 도착이나 자원 반납이 있을 때만 검사)
     public boolean processResourceAssignments() {
+        boolean isAdmissionChanged = hasArrivals || isResourceReleased;
+        if (deadlockDetector != null) {
+            boolean isFinish = assignAcquiredProcesses(isAdmissionChanged);
+            metrics.recordAdmissionChecks(deadlockDetector.takeRowChecks());
+            return isFinish;
+        }
+        boolean isFinish = isAdmissionChanged && assignSafeProcesses();
+        metrics.recordAdmissionChecks(resourceManager.takeRowChecks());
+        metrics.recordAdmissionCache(resourceManager.takeCacheHits(), resourceManager.takeCacheMisses());
+        return isFinish;
+    }
+
+    private boolean assignSafeProcesses() {
         while (!processWaitingList.isEmpty()) {
-            Object[] result = ResourceManager.getProcessToAssignResources(currentResources, Constants.GIVEN_RESOURCES, processWaitingList);
-            int allocationStatus = (int) result[0];
-            List<Process> selectedProcesses = (List<Process>) result[1];
+            int allocationStatus = resourceManager.selectProcessesToAssign(currentResources, selectedProcesses);
 
-            if (allocationStatus == -1) {
+            if (allocationStatus == ResourceManager.UNSOLVABLE) {
                 handleUnsolvableState();
                 return true;
-            } else if (allocationStatus == 0) {
+            } else if (allocationStatus == ResourceManager.NO_SAFE_ADMISSION) {
                 break;
-            } else if (allocationStatus == 1) {
+            } else if (allocationStatus == ResourceManager.ADMITTED) {
                 processSelectedProcesses(selectedProcesses);
             } else {
                 handleErrorState();
@@ -150,6 +665,56 @@ public class ProcessSimulator {
         return false;
     }
 
+    // 탐지 주기가 되었거나 모든 프로세서가 놀고 있으면 먼저 교착 상태를 풀고, 그다음 대기 프로세스들이 자원을 확보한다
+    private boolean assignAcquiredProcesses(boolean isAdmissionChanged) {
+        if (processWaitingList.isEmpty()) {
+            return false;
+        }
+        if (hasUnsatisfiableProcess) {
+            handleUnsolvableState();
+            return true;
+        }
+        if (isDeadlockDetectionDue()) {
+            nextDetectionTime = currentTime + config.getDeadlockDetectionInterval();
+            int rollbacks = deadlockDetector.detectAndRecover(processWaitingList, currentResources);
+            if (rollbacks > 0) {
+                metrics.recordDeadlock(rollbacks);
+                isAdmissionChanged = true;
+            }
+        }
+        if (isAdmissionChanged) {
+            deadlockDetector.acquireResources(processWaitingList, currentResources, selectedProcesses);
+            if (!selectedProcesses.isEmpty()) {
+                assignProcessesToProcessors(selectedProcesses);
+            }
+        }
+        return false;
+    }
+
+    private boolean isDeadlockDetectionDue() {
+        return (config.getDeadlockDetectionInterval() > 0 && currentTime >= nextDetectionTime) || isSystemIdle();
+    }
+
+    // 입출력 중인 프로세스도 돌아와 실행을 마치면 자원을 반납하므로 장치가 놀 때만 시스템이 멈춘 것으로 본다
+    private boolean isSystemIdle() {
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            if (!processor.isIdle() || processor.hasReadyProcess()) {
+                return false;
+            }
+        }
+        return isEveryIoDeviceIdle();
+    }
+
+    private boolean isEveryIoDeviceIdle() {
+        for (IoDevice device : ioDevices) {
+            if (!device.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void processSelectedProcesses(List<Process> processes) {
         updateResourcesAfterAssignment(processes);
         assignProcessesToProcessors(processes);
@@ -157,103 +722,205 @@ public class ProcessSimulator {
 
     private void updateResourcesAfterAssignment(List<Process> processes) {
         for (Process process : processes) {
-            int[] requiredResources = process.getRemainingResources();
-            process.assignResources(requiredResources);
-            for (int i = 0; i < currentResources.length; i++) {
-                currentResources[i] -= requiredResources[i];
-            }
+            process.assignRemainingResources(currentResources);
         }
     }
 
     private void assignProcessesToProcessors(List<Process> processes) {
-        for (Process process : processes) {
-            Processor selectedProcessor = selectProcessorWithMinimumWorkload();
-            selectedProcessor.addProcessToReadyQueue(process);
-            processWaitingList.remove(process);
+        placementStrategy.beginPlacement(processorList);
+        for (int i = 0; i < processes.size(); i++) {
+            int processorIndex = placementStrategy.selectProcessor(processorList);
+            Process process = processes.get(i);
+            process.assignToProcessor();
+            processorList.get(processorIndex).addProcessToReadyQueue(process);
+            placementStrategy.placed(processorList, processorIndex);
+        }
+        removeAssignedFromWaitingList();
+        if (deadlockDetector == null) {
+            resourceManager.removeAssignedProcesses();
+        }
+        if (submissions != null) {
+            for (int i = 0; i < processes.size(); i++) {
+                if (submittedProcesses.containsKey(processes.get(i))) {
+                    submissions.admitted();
+                }
+            }
         }
     }
 
-    private Processor selectProcessorWithMinimumWorkload() {
-        return processorList.stream()
-                .min(Comparator.comparingInt(Processor::calculateTotalWorkload))
-                .orElseThrow(IllegalStateException::new);
+    // 배치한 프로세스는 다시 대기 목록으로 돌아오지 않으므로, 표시해 둔 프로세스를 한 번에 당겨 지운다
+    private void removeAssignedFromWaitingList() {
+        int kept = 0;
+        for (int i = 0; i < processWaitingList.size(); i++) {
+            Process process = processWaitingList.get(i);
+            if (!process.isAssigned()) {
+                processWaitingList.set(kept++, process);
+            }
+        }
+        processWaitingList.subList(kept, processWaitingList.size()).clear();
     }
 
     private void handleUnsolvableState() {
         setSolvable(false);
-        System.out.println("ERROR: PROBLEM NOT SOLVABLE!! (Resource cannot be assigned forever)");
+        traceSink.unsolvable();
     }
 
     private void handleErrorState() {
         setSolvable(false);
-        System.out.println("ERROR OCCURRED!!");
+        traceSink.error();
     }
 
     private void printCurrentState() {
-        printHeader();
-        printCurrentProcesses();
-        printReadyQueueSizes();
-        printFooter();
+        if (!isFastForwarding()) {
+            traceSink.tick(currentTime, processorList, processWaitingList, currentResources);
+        }
+    }
+
+    // 할당 단계 전에 따로 실행되므로 큐 주인과 훔치는 쪽이 같은 큐를 동시에 만지지 않는다 (잠금 불필요)
+    // 프로세서 번호 순으로, 할 일이 없는 프로세서가 작업량이 가장 많은 프로세서의 큐에서 하나를 가져온다
+    // 빼앗을 프로세서 순서는 단계마다 한 번 힙으로 정리하고, 훔칠 때마다 주고받은 두 프로세서만 고친다
+    private void stealWork() {
+        boolean isRefreshed = false;
+        for (int thief = 0; thief < processorList.size(); thief++) {
+            Processor thiefProcessor = processorList.get(thief);
+            if (!thiefProcessor.isIdle() || thiefProcessor.hasReadyProcess()) {
+                continue;
+            }
+            if (!isRefreshed) {
+                stealVictims.refresh(processorList);
+                isRefreshed = true;
+            }
+            // 할 일이 없는 프로세서는 훔칠 프로세스가 없으므로 자기 자신을 고르지 않는다
+            int victim = stealVictims.selectVictim();
+            if (victim < 0) {
+                return;
+            }
+            Processor victimProcessor = processorList.get(victim);
+            thiefProcessor.receiveStolenProcess(config.isAffinityStealing() ? victimProcessor.stealProcess(thief) : victimProcessor.stealProcess());
+            stealVictims.updated(processorList, victim);
+            stealVictims.updated(processorList, thief);
+        }
     }
 
-    private void printHeader() {
-        System.out.print(" P" + String.format("%03d", Constants.NUM_PROCESSORS) + "  T" + String.format("%03d", currentTime) + " : ");
+    // 할 일이 없는 프로세서 하나와 훔칠 프로세스가 있는 프로세서 하나가 있으면 된다 (작업량은 보지 않는다)
+    private boolean hasStealableWork() {
+        boolean hasThief = false;
+        boolean hasVictim = false;
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            hasThief |= processor.isIdle() && !processor.hasReadyProcess();
+            hasVictim |= processor.getStealableProcessCount() > 0;
+        }
+        return hasThief && hasVictim;
     }
 
     private void checkAndAssignProcesses() {
-        for (Processor processor : processorList) {
-            processor.checkAndAssignProcess();
-            processor.runProcess();
+        forEachProcessor(assignAndRunPhase);
+    }
+
+    private void recordAssignments() {
+        for (int i = 0; i < processorList.size(); i++) {
+            timeline.processorAssigned(i, processorList.get(i).getCurrentProcess(), currentTime);
         }
     }
 
-    private void printCurrentProcesses() {
-        for (Processor processor : processorList) {
-            if (processor.getCurrentProcess() == null) {
-                System.out.print("-- ");
-            } else {
-                System.out.print(String.format("%2d", processor.getCurrentProcess().getId()) + " ");
+    // 이번 틱을 마지막으로 실행한 프로세스의 구간을 닫는다
+    private void recordReleases() {
+        for (int i = 0; i < processorList.size(); i++) {
+            if (finishedProcessByProcessor[i] != null) {
+                timeline.processReleased(i, currentTime + 1, SwitchReason.FINISHED);
+            } else if (blockedProcessByProcessor[i] != null) {
+                timeline.processReleased(i, currentTime + 1, SwitchReason.BLOCKED);
             }
         }
-        System.out.print("| ");
     }
 
-    private void printReadyQueueSizes() {
-        for (Processor processor : processorList) {
-            if (processor.getReadyQueue().isEmpty()) {
-                System.out.print("* ");
-            } else {
-                System.out.print(processor.getReadyQueue().size() + " ");
+    private void checkAndAssignProcess(int processorIndex) {
+        Processor processor = processorList.get(processorIndex);
+        processor.checkAndAssignProcess(currentTime);
+        processor.runProcess();
+    }
+
+    // 각 프로세서는 자신의 준비 큐와 현재 프로세스만 다루므로 한 단계 안에서는 서로 독립적으로 실행 가능
+    // 병렬 모드에서는 join 이 단계 사이의 장벽 역할을 한다
+    private void forEachProcessor(IntConsumer action) {
+        if (processorPool == null) {
+            for (int i = 0; i < processorList.size(); i++) {
+                action.accept(i);
             }
+        } else {
+            processorPool.submit(() -> IntStream.range(0, processorList.size()).parallel().forEach(action)).join();
         }
     }
 
     private void cleanupProcesses() {
-        for (Processor processor : processorList) {
-            int[] returnedResources = processor.cleanupProcess();
-            if (returnedResources.length != 0) {
-                for (int j = 0; j < currentResources.length; j++) {
-                    currentResources[j] += returnedResources[j];
+        forEachProcessor(cleanupPhase);
+        if (timeline != null) {
+            recordReleases();
+        }
+
+        // 종료된 프로세스는 프로세서별 슬롯에 모아 두었다가 프로세서 순서대로 자원을 반납
+        isResourceReleased = false;
+        for (int i = 0; i < finishedProcessByProcessor.length; i++) {
+            Process finishedProcess = finishedProcessByProcessor[i];
+            if (finishedProcess != null) {
+                isResourceReleased = true;
+                finishedProcess.releaseResourcesTo(currentResources);
+                recordCompletion(finishedProcess);
+                if (submissions != null) {
+                    completeSubmission(finishedProcess);
+                }
+                if (processTable.owns(finishedProcess)) {
+                    processTable.release(finishedProcess);
                 }
+                finishedProcessByProcessor[i] = null;
             }
         }
+        if (!ioDevices.isEmpty()) {
+            serveIoDevices();
+        }
     }
 
-    private void printFooter() {
-        String waitingProcessIds = processWaitingList.stream()
-                .map(process -> String.valueOf(process.getId()))
-                .collect(Collectors.joining(", "));
+    private void cleanupProcess(int processorIndex) {
+        Processor processor = processorList.get(processorIndex);
+        finishedProcessByProcessor[processorIndex] = processor.cleanupProcess(currentTime);
+        blockedProcessByProcessor[processorIndex] = processor.releaseBlockedProcess();
+    }
 
-        int maxOutputLength = 20;
-        if (waitingProcessIds.length() > maxOutputLength) {
-            waitingProcessIds = waitingProcessIds.substring(0, maxOutputLength - 3) + "...";
+    // 장치 번호 순으로 이번 틱의 입출력을 처리해 끝난 프로세스를 마지막으로 실행된 프로세서의 준비 큐로 돌려보내고,
+    // 프로세서 순서대로 이번 틱에 입출력을 시작한 프로세스를 장치 큐에 넣는다
+    private void serveIoDevices() {
+        for (IoDevice device : ioDevices) {
+            Process completedProcess = device.serveTick(currentTime);
+            if (completedProcess != null) {
+                processorList.get(completedProcess.getLastProcessor()).addProcessToReadyQueue(completedProcess);
+            }
         }
+        for (int i = 0; i < blockedProcessByProcessor.length; i++) {
+            Process blockedProcess = blockedProcessByProcessor[i];
+            if (blockedProcess != null) {
+                ioDevices.get(blockedProcess.getIoDevice()).submit(blockedProcess, currentTime);
+                blockedProcessByProcessor[i] = null;
+            }
+        }
+    }
 
-        System.out.print(String.format("   | %-20s", waitingProcessIds));
-        System.out.println(" | " + Arrays.toString(currentResources));
+    private void recordCompletion(Process process) {
+        completedProcessCount++;
+        metrics.recordCompletion(process);
     }
 
     private boolean checkSimulationCompletion(boolean isDispatchedTasksExists, boolean tasksRemaining, boolean isFinish) {
-        return !isDispatchedTasksExists && !tasksRemaining && processWaitingList.isEmpty() && processorList.stream().allMatch(p -> p.getReadyQueue().isEmpty() && !isFinish);
+        if (isDispatchedTasksExists || tasksRemaining || !processWaitingList.isEmpty() || !isEveryIoDeviceIdle()) {
+            return false;
+        }
+        // 모든 프로세서가 놀던 틱에 할당된 프로세스는 틱 시작 시점 검사에 잡히지 않으므로 실행 중인지도 확인
+        for (int i = 0; i < processorList.size(); i++) {
+            Processor processor = processorList.get(i);
+            if (processor.hasReadyProcess() || !processor.isIdle() || isFinish) {
+                return false;
+            }
+        }
+        return true;
     }
 }
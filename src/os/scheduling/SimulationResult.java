@@ -0,0 +1,11 @@
+package os.scheduling;
+
+import os.scheduling.metrics.SimulationMetrics;
+
+public record SimulationResult(long seed, boolean isSolvable, int finishTime, int completedProcesses, SimulationMetrics metrics) {
+
+    // 시뮬레이션 시간 단위당 완료된 프로세스 수
+    public double throughput() {
+        return finishTime == 0 ? 0 : (double) completedProcesses / finishTime;
+    }
+}
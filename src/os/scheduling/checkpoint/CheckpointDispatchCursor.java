@@ -0,0 +1,87 @@
+package os.scheduling.checkpoint;
+
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.workload.DispatchCursor;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.zip.InflaterInputStream;
+
+// 체크포인트에 압축해 둔 남은 작업 목록을 풀면서 하나씩 읽는다 (다음 레코드 하나만 미리 읽어 둔다)
+final class CheckpointDispatchCursor implements DispatchCursor {
+    private final byte[] compressed;
+    private final int numOfResourceTypes;
+    private final DataInputStream in;
+    private ProcessDispatch pending;
+    private long consumed = 0;
+
+    CheckpointDispatchCursor(byte[] compressed, int numOfResourceTypes) {
+        this.compressed = compressed;
+        this.numOfResourceTypes = numOfResourceTypes;
+        this.in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed)), 1 << 16));
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pending != null;
+    }
+
+    @Override
+    public int peekDispatchTime() {
+        return pending == null ? NO_MORE_DISPATCHES : pending.dispatchTime();
+    }
+
+    @Override
+    public ProcessDispatch next() {
+        if (pending == null) {
+            throw new NoSuchElementException();
+        }
+        ProcessDispatch dispatch = pending;
+        consumed++;
+        advance();
+        return dispatch;
+    }
+
+    // 압축 스트림은 건너뛸 수 없으므로 처음부터 풀면서 이미 읽은 만큼 버린다
+    @Override
+    public DispatchCursor fork() {
+        CheckpointDispatchCursor fork = new CheckpointDispatchCursor(compressed, numOfResourceTypes);
+        while (fork.consumed < consumed) {
+            fork.next();
+        }
+        return fork;
+    }
+
+    private void advance() {
+        try {
+            if (in.readByte() == 0) {
+                pending = null;
+                return;
+            }
+            int processId = in.readInt();
+            int dispatchTime = in.readInt();
+            int runTime = in.readInt();
+            int[] resources = new int[numOfResourceTypes];
+            for (int j = 0; j < numOfResourceTypes; j++) {
+                resources[j] = in.readInt();
+            }
+            int deadline = in.readInt();
+            int tickets = in.readInt();
+            IoBurst[] ioBursts = new IoBurst[in.readInt()];
+            for (int k = 0; k < ioBursts.length; k++) {
+                ioBursts[k] = new IoBurst(in.readInt(), in.readInt(), in.readInt());
+            }
+            pending = new ProcessDispatch(processId, dispatchTime, runTime, resources, deadline,
+                    ioBursts.length == 0 ? ProcessDispatch.NO_IO_BURSTS : ioBursts, tickets);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt checkpoint dispatch list", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package os.scheduling.checkpoint;
+
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.workload.DispatchCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 주기적 체크포인트를 별도 스레드에서 파일로 쓴다
+// 시뮬레이션 스레드는 상태를 바이트 배열로 복사하고 작업 커서를 복제하는 동안만 멈춘다
+// 이전 체크포인트를 아직 쓰는 중이면 이번 것은 건너뛴다 (시뮬레이션을 기다리게 하지 않는다)
+public final class CheckpointWriter implements AutoCloseable {
+    private final Path path;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "checkpoint-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> inFlight;
+    private long written = 0;
+    private long skipped = 0;
+
+    public CheckpointWriter(Path path) {
+        this.path = path;
+    }
+
+    public boolean isBusy() {
+        return inFlight != null && !inFlight.isDone();
+    }
+
+    // pending 은 쓰기 스레드가 끝까지 읽고 닫는다
+    public boolean submit(SimulationConfig config, int time, byte[] state, DispatchCursor pending) {
+        if (isBusy()) {
+            pending.close();
+            skipped++;
+            return false;
+        }
+        awaitInFlight();
+        inFlight = executor.submit(() -> {
+            SimulationCheckpoint.write(path, config, time, state, pending);
+            return null;
+        });
+        written++;
+        return true;
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    public long getSkippedCount() {
+        return skipped;
+    }
+
+    // 마지막 체크포인트가 다 쓰일 때까지 기다린다
+    @Override
+    public void close() {
+        try {
+            awaitInFlight();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void awaitInFlight() {
+        if (inFlight == null) {
+            return;
+        }
+        try {
+            inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing checkpoint " + path, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw new UncheckedIOException("Cannot write checkpoint " + path, ioException);
+            }
+            throw new IllegalStateException("Cannot write checkpoint " + path, e.getCause());
+        } finally {
+            inFlight = null;
+        }
+    }
+}
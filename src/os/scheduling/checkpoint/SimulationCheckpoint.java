@@ -0,0 +1,242 @@
+package os.scheduling.checkpoint;
+
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.ArrivalProcess;
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.enums.RunTimeDistribution;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.SimulationEngine;
+import os.scheduling.enums.VictimPolicy;
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.workload.DispatchCursor;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+// 시뮬레이터 전체 상태의 스냅숏 (메모리에 통째로 들고 있어, 같은 체크포인트에서 여러 번 되살릴 수 있다)
+// 파일: MAGIC, VERSION, 설정, 시각, 상태 길이와 상태 바이트, 이후 파일 끝까지 deflate 압축된 남은 작업 목록
+// 남은 작업 레코드: 1, processId, dispatchTime, runTime, resources[자원 종류 수], deadline, tickets, 입출력 수, (cpuTime, device, ioTime)[입출력 수] / 끝: 0
+public final class SimulationCheckpoint {
+    static final int MAGIC = 0x5053434B;
+    static final int VERSION = 8;
+
+    private final SimulationConfig config;
+    private final int time;
+    private final byte[] state;
+    private final byte[] pendingDispatches;
+
+    private SimulationCheckpoint(SimulationConfig config, int time, byte[] state, byte[] pendingDispatches) {
+        this.config = config;
+        this.time = time;
+        this.state = state;
+        this.pendingDispatches = pendingDispatches;
+    }
+
+    // pending 은 이 메서드가 끝까지 읽고 닫는다
+    public static SimulationCheckpoint capture(SimulationConfig config, int time, byte[] state, DispatchCursor pending) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try {
+            writePendingDispatches(compressed, pending, config.getNumOfResourceTypes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SimulationCheckpoint(config, time, state, compressed.toByteArray());
+    }
+
+    // 남은 작업을 메모리에 모으지 않고 바로 파일로 흘려 쓴다. 임시 파일에 다 쓴 뒤 이름을 바꿔, 쓰는 도중 죽어도 이전 체크포인트가 남는다
+    public static void write(Path path, SimulationConfig config, int time, byte[] state, DispatchCursor pending) throws IOException {
+        writeAtomically(path, out -> {
+            writeHeader(out, config, time, state);
+            writePendingDispatches(out, pending, config.getNumOfResourceTypes());
+        });
+    }
+
+    public void write(Path path) throws IOException {
+        writeAtomically(path, out -> {
+            writeHeader(out, config, time, state);
+            out.write(pendingDispatches);
+        });
+    }
+
+    public static SimulationCheckpoint read(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (bytes.length < 2 * Integer.BYTES || in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalArgumentException("Not a simulation checkpoint (bad magic/version): " + path);
+        }
+        SimulationConfig config = readConfig(in);
+        int time = in.readInt();
+        byte[] state = new byte[in.readInt()];
+        in.readFully(state);
+        byte[] pendingDispatches = in.readAllBytes();
+        return new SimulationCheckpoint(config, time, state, pendingDispatches);
+    }
+
+    // 체크포인트를 만든 실행의 설정 (트레이스, 체크포인트 설정은 기본값)
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public DataInputStream openState() {
+        return new DataInputStream(new ByteArrayInputStream(state));
+    }
+
+    public DispatchCursor openPendingDispatches() {
+        return new CheckpointDispatchCursor(pendingDispatches, config.getNumOfResourceTypes());
+    }
+
+    // 되살릴 실행의 설정이 저장된 상태와 맞물리는지 확인 (엔진, 병렬도, 트레이스 등은 바꿔도 된다)
+    public void checkCompatible(SimulationConfig other) {
+        if (other.getNumProcessors() != config.getNumProcessors()
+                || other.getSchedulingAlgorithm() != config.getSchedulingAlgorithm()
+                || other.getPlacementAlgorithm() != config.getPlacementAlgorithm()
+                || other.getAdmissionMode() != config.getAdmissionMode()
+                || other.getIoDevices() != config.getIoDevices()
+                || !Arrays.equals(other.getGivenResources(), config.getGivenResources())) {
+            throw new IllegalArgumentException("Checkpoint " + config + " cannot be restored with " + other);
+        }
+    }
+
+    private interface StreamWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static void writeAtomically(Path path, StreamWriter writer) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16)) {
+            writer.write(out);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeHeader(OutputStream stream, SimulationConfig config, int time, byte[] state) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeConfig(out, config);
+        out.writeInt(time);
+        out.writeInt(state.length);
+        out.write(state);
+        out.flush();
+    }
+
+    private static void writePendingDispatches(OutputStream stream, DispatchCursor pending, int numOfResourceTypes) throws IOException {
+        try (pending) {
+            DeflaterOutputStream deflater = new DeflaterOutputStream(stream, new Deflater(Deflater.BEST_SPEED), 1 << 16);
+            DataOutputStream out = new DataOutputStream(deflater);
+            while (pending.hasNext()) {
+                ProcessDispatch dispatch = pending.next();
+                out.writeByte(1);
+                out.writeInt(dispatch.processId());
+                out.writeInt(dispatch.dispatchTime());
+                out.writeInt(dispatch.runTime());
+                for (int j = 0; j < numOfResourceTypes; j++) {
+                    out.writeInt(dispatch.resources()[j]);
+                }
+                out.writeInt(dispatch.deadline());
+                out.writeInt(dispatch.tickets());
+                out.writeInt(dispatch.ioBursts().length);
+                for (IoBurst burst : dispatch.ioBursts()) {
+                    out.writeInt(burst.cpuTime());
+                    out.writeInt(burst.device());
+                    out.writeInt(burst.ioTime());
+                }
+            }
+            out.writeByte(0);
+            out.flush();
+            deflater.finish();
+        }
+    }
+
+    private static void writeConfig(DataOutputStream out, SimulationConfig config) throws IOException {
+        out.writeInt(config.getNumProcessors());
+        out.writeUTF(config.getSchedulingAlgorithm().name());
+        out.writeInt(config.getTimeQuantum());
+        int[] givenResources = config.getGivenResources();
+        out.writeInt(givenResources.length);
+        for (int resource : givenResources) {
+            out.writeInt(resource);
+        }
+        out.writeInt(config.getNumProcesses());
+        out.writeInt(config.getProcessGenerationTimeLimit());
+        out.writeInt(config.getMaxProcessRunTime());
+        out.writeUTF(config.getSimulationEngine().name());
+        out.writeInt(config.getProcessorSteppingParallelism());
+        out.writeUTF(config.getPlacementAlgorithm().name());
+        out.writeBoolean(config.isWorkStealing());
+        out.writeBoolean(config.isAffinityStealing());
+        out.writeInt(config.getContextSwitchCost());
+        out.writeInt(config.getMigrationCost());
+        out.writeInt(config.getDeadlineSlack());
+        out.writeInt(config.getMaxTickets());
+        out.writeInt(config.getIoDevices());
+        out.writeInt(config.getMaxIoBursts());
+        out.writeInt(config.getMaxIoTime());
+        out.writeBoolean(config.isStreamingWorkload());
+        out.writeUTF(config.getArrivalProcess().name());
+        out.writeInt(config.getBurstSize());
+        out.writeUTF(config.getRunTimeDistribution().name());
+        out.writeDouble(config.getRunTimeShape());
+        out.writeDouble(config.getResourceCorrelation());
+        out.writeUTF(config.getAdmissionMode().name());
+        out.writeUTF(config.getVictimPolicy().name());
+        out.writeInt(config.getDeadlockDetectionInterval());
+        out.writeLong(config.getSeed());
+    }
+
+    private static SimulationConfig readConfig(DataInputStream in) throws IOException {
+        SimulationConfig.Builder builder = SimulationConfig.builder()
+                .numProcessors(in.readInt())
+                .schedulingAlgorithm(SchedulingAlgorithm.valueOf(in.readUTF()))
+                .timeQuantum(in.readInt());
+        int[] givenResources = new int[in.readInt()];
+        for (int j = 0; j < givenResources.length; j++) {
+            givenResources[j] = in.readInt();
+        }
+        return builder.givenResources(givenResources)
+                .numProcesses(in.readInt())
+                .processGenerationTimeLimit(in.readInt())
+                .maxProcessRunTime(in.readInt())
+                .simulationEngine(SimulationEngine.valueOf(in.readUTF()))
+                .processorSteppingParallelism(in.readInt())
+                .placementAlgorithm(PlacementAlgorithm.valueOf(in.readUTF()))
+                .workStealing(in.readBoolean())
+                .affinityStealing(in.readBoolean())
+                .contextSwitchCost(in.readInt())
+                .migrationCost(in.readInt())
+                .deadlineSlack(in.readInt())
+                .maxTickets(in.readInt())
+                .ioDevices(in.readInt())
+                .maxIoBursts(in.readInt())
+                .maxIoTime(in.readInt())
+                .streamingWorkload(in.readBoolean())
+                .arrivalProcess(ArrivalProcess.valueOf(in.readUTF()))
+                .burstSize(in.readInt())
+                .runTimeDistribution(RunTimeDistribution.valueOf(in.readUTF()))
+                .runTimeShape(in.readDouble())
+                .resourceCorrelation(in.readDouble())
+                .admissionMode(AdmissionMode.valueOf(in.readUTF()))
+                .victimPolicy(VictimPolicy.valueOf(in.readUTF()))
+                .deadlockDetectionInterval(in.readInt())
+                .seed(in.readLong())
+                .build();
+    }
+}
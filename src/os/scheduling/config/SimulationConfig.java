@@ -0,0 +1,647 @@
+package os.scheduling.config;
+
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.ArrivalProcess;
+import os.scheduling.enums.Constants;
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.enums.ResourceLayout;
+import os.scheduling.enums.RunTimeDistribution;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.SimulationEngine;
+import os.scheduling.enums.TraceMode;
+import os.scheduling.enums.VictimPolicy;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시뮬레이션 1회 실행에 필요한 모든 설정 (불변 객체, 실행 간에 공유해도 안전)
+public final class SimulationConfig {
+    private final int numProcessors;
+    private final SchedulingAlgorithm schedulingAlgorithm;
+    private final int timeQuantum;
+    private final int[] givenResources;
+    private final int numProcesses;
+    private final int processGenerationTimeLimit;
+    private final int maxProcessRunTime;
+    private final SimulationEngine simulationEngine;
+    private final int processorSteppingParallelism;
+    private final PlacementAlgorithm placementAlgorithm;
+    private final boolean workStealing;
+    private final boolean affinityStealing;
+    private final int contextSwitchCost;
+    private final int migrationCost;
+    private final int deadlineSlack;
+    private final int maxTickets;
+    private final int ioDevices;
+    private final int maxIoBursts;
+    private final int maxIoTime;
+    private final boolean streamingWorkload;
+    private final ArrivalProcess arrivalProcess;
+    private final int burstSize;
+    private final RunTimeDistribution runTimeDistribution;
+    private final double runTimeShape;
+    private final double resourceCorrelation;
+    private final AdmissionMode admissionMode;
+    private final VictimPolicy victimPolicy;
+    private final int deadlockDetectionInterval;
+    private final int admissionCacheSize;
+    private final ResourceLayout resourceLayout;
+    private final TraceMode traceMode;
+    private final Path tracePath;
+    private final int traceStartTime;
+    private final boolean recordTimeline;
+    private final Path timelinePath;
+    private final int checkpointInterval;
+    private final Path checkpointPath;
+    private final long seed;
+
+    private SimulationConfig(Builder builder) {
+        this.numProcessors = builder.numProcessors;
+        this.schedulingAlgorithm = builder.schedulingAlgorithm;
+        this.timeQuantum = builder.timeQuantum;
+        this.givenResources = Arrays.copyOf(builder.givenResources, builder.givenResources.length);
+        this.numProcesses = builder.numProcesses;
+        this.processGenerationTimeLimit = builder.processGenerationTimeLimit;
+        this.maxProcessRunTime = builder.maxProcessRunTime;
+        this.simulationEngine = builder.simulationEngine;
+        this.processorSteppingParallelism = builder.processorSteppingParallelism;
+        this.placementAlgorithm = builder.placementAlgorithm;
+        this.workStealing = builder.workStealing;
+        this.affinityStealing = builder.affinityStealing;
+        this.contextSwitchCost = builder.contextSwitchCost;
+        this.migrationCost = builder.migrationCost;
+        this.deadlineSlack = builder.deadlineSlack;
+        this.maxTickets = builder.maxTickets;
+        this.ioDevices = builder.ioDevices;
+        this.maxIoBursts = builder.maxIoBursts;
+        this.maxIoTime = builder.maxIoTime;
+        this.streamingWorkload = builder.streamingWorkload;
+        this.arrivalProcess = builder.arrivalProcess;
+        this.burstSize = builder.burstSize;
+        this.runTimeDistribution = builder.runTimeDistribution;
+        this.runTimeShape = builder.runTimeShape;
+        this.resourceCorrelation = builder.resourceCorrelation;
+        this.admissionMode = builder.admissionMode;
+        this.victimPolicy = builder.victimPolicy;
+        this.deadlockDetectionInterval = builder.deadlockDetectionInterval;
+        this.admissionCacheSize = builder.admissionCacheSize;
+        this.resourceLayout = builder.resourceLayout;
+        this.traceMode = builder.traceMode;
+        this.tracePath = builder.tracePath;
+        this.traceStartTime = builder.traceStartTime;
+        this.recordTimeline = builder.recordTimeline;
+        this.timelinePath = builder.timelinePath;
+        this.checkpointInterval = builder.checkpointInterval;
+        this.checkpointPath = builder.checkpointPath;
+        this.seed = builder.seed;
+    }
+
+    // Constants 에 정의된 기본값 (시드는 매번 새로 뽑는다)
+    public static SimulationConfig defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .numProcessors(numProcessors)
+                .schedulingAlgorithm(schedulingAlgorithm)
+                .timeQuantum(timeQuantum)
+                .givenResources(givenResources)
+                .numProcesses(numProcesses)
+                .processGenerationTimeLimit(processGenerationTimeLimit)
+                .maxProcessRunTime(maxProcessRunTime)
+                .simulationEngine(simulationEngine)
+                .processorSteppingParallelism(processorSteppingParallelism)
+                .placementAlgorithm(placementAlgorithm)
+                .workStealing(workStealing)
+                .affinityStealing(affinityStealing)
+                .contextSwitchCost(contextSwitchCost)
+                .migrationCost(migrationCost)
+                .deadlineSlack(deadlineSlack)
+                .maxTickets(maxTickets)
+                .ioDevices(ioDevices)
+                .maxIoBursts(maxIoBursts)
+                .maxIoTime(maxIoTime)
+                .streamingWorkload(streamingWorkload)
+                .arrivalProcess(arrivalProcess)
+                .burstSize(burstSize)
+                .runTimeDistribution(runTimeDistribution)
+                .runTimeShape(runTimeShape)
+                .resourceCorrelation(resourceCorrelation)
+                .admissionMode(admissionMode)
+                .victimPolicy(victimPolicy)
+                .deadlockDetectionInterval(deadlockDetectionInterval)
+                .admissionCacheSize(admissionCacheSize)
+                .resourceLayout(resourceLayout)
+                .traceMode(traceMode)
+                .tracePath(tracePath)
+                .traceStartTime(traceStartTime)
+                .recordTimeline(recordTimeline)
+                .timelinePath(timelinePath)
+                .checkpointInterval(checkpointInterval)
+                .checkpointPath(checkpointPath)
+                .seed(seed);
+    }
+
+    // Getters
+    public int getNumProcessors() {
+        return numProcessors;
+    }
+
+    public SchedulingAlgorithm getSchedulingAlgorithm() {
+        return schedulingAlgorithm;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    public int[] getGivenResources() {
+        return Arrays.copyOf(givenResources, givenResources.length);
+    }
+
+    public int getNumOfResourceTypes() {
+        return givenResources.length;
+    }
+
+    public int getNumProcesses() {
+        return numProcesses;
+    }
+
+    public int getProcessGenerationTimeLimit() {
+        return processGenerationTimeLimit;
+    }
+
+    public int getMaxProcessRunTime() {
+        return maxProcessRunTime;
+    }
+
+    public SimulationEngine getSimulationEngine() {
+        return simulationEngine;
+    }
+
+    public int getProcessorSteppingParallelism() {
+        return processorSteppingParallelism;
+    }
+
+    public PlacementAlgorithm getPlacementAlgorithm() {
+        return placementAlgorithm;
+    }
+
+    public boolean isWorkStealing() {
+        return workStealing;
+    }
+
+    // 작업을 훔칠 때 빼앗기는 프로세서에서 캐시가 데워진 프로세스는 되도록 남겨 둔다
+    public boolean isAffinityStealing() {
+        return affinityStealing;
+    }
+
+    // 프로세서에 프로세스를 올릴 때마다 실행하지 못하고 보내는 틱 수
+    public int getContextSwitchCost() {
+        return contextSwitchCost;
+    }
+
+    // 마지막으로 다른 프로세서에서 실행된 프로세스를 올릴 때 (캐시가 식어) 추가로 보내는 틱 수
+    public int getMigrationCost() {
+        return migrationCost;
+    }
+
+    // 생성되는 작업의 마감 시각 여유 (실행 시간의 최대 몇 배까지 늦어도 되는지)
+    public int getDeadlineSlack() {
+        return deadlineSlack;
+    }
+
+    // 생성되는 작업의 티켓 수 상한. 0 이면 모두 ProcessTable.DEFAULT_TICKETS, 양수면 1..maxTickets 에서 균등하게 뽑는다
+    public int getMaxTickets() {
+        return maxTickets;
+    }
+
+    // 입출력 장치 수. 0 보다 크면 생성되는 작업마다 최대 maxIoBursts 번, 한 번에 최대 maxIoTime 틱씩 무작위 장치에서 입출력한다
+    public int getIoDevices() {
+        return ioDevices;
+    }
+
+    public int getMaxIoBursts() {
+        return maxIoBursts;
+    }
+
+    public int getMaxIoTime() {
+        return maxIoTime;
+    }
+
+    // 무작위 작업을 미리 만들어 두지 않고 도착 순서대로 필요할 때 하나씩 만든다 (작업 수와 무관하게 메모리 일정)
+    // 아래 분포 설정은 이 방식에서만 쓴다. 같은 시드라도 미리 만드는 방식과는 다른 작업이 나온다
+    public boolean isStreamingWorkload() {
+        return streamingWorkload;
+    }
+
+    // 평균 도착 간격은 processGenerationTimeLimit / numProcesses 로 어느 방식이든 같다
+    public ArrivalProcess getArrivalProcess() {
+        return arrivalProcess;
+    }
+
+    // BURSTY 도착에서 한 번에 몰려오는 평균 작업 수
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    // 실행 시간 분포. 어느 분포든 평균은 UNIFORM 과 같은 (maxProcessRunTime + 1) / 2 이다
+    public RunTimeDistribution getRunTimeDistribution() {
+        return runTimeDistribution;
+    }
+
+    // PARETO 의 꼬리 지수 (1 보다 커야 한다), LOGNORMAL 의 로그 표준편차
+    public double getRunTimeShape() {
+        return runTimeShape;
+    }
+
+    // 한 작업이 여러 자원 종류를 함께 많이(적게) 요구하는 정도 (0: 서로 독립, 1: 모든 종류가 같은 분위)
+    public double getResourceCorrelation() {
+        return resourceCorrelation;
+    }
+
+    // AVOIDANCE: Banker's 안전성 검사를 통과한 프로세스에만 자원을 한 번에 할당
+    // DETECTION: 요청을 낙관적으로 승인하고, 교착 상태를 주기적으로 탐지해 희생 프로세스의 자원을 회수
+    public AdmissionMode getAdmissionMode() {
+        return admissionMode;
+    }
+
+    public VictimPolicy getVictimPolicy() {
+        return victimPolicy;
+    }
+
+    // DETECTION 모드에서 몇 틱마다 교착 상태를 탐지할지 (0 이면 모든 프로세서가 놀 때만 탐지)
+    public int getDeadlockDetectionInterval() {
+        return deadlockDetectionInterval;
+    }
+
+    // AVOIDANCE 모드에서 기억해 둘 안전성 검사 결과 수 (0 이면 캐시를 쓰지 않는다)
+    public int getAdmissionCacheSize() {
+        return admissionCacheSize;
+    }
+
+    // 프로세스별 요구량 / 할당량 저장 방식 (SPARSE 면 0 이 아닌 종류만 (종류, 양) 쌍으로 저장)
+    public ResourceLayout getResourceLayout() {
+        return resourceLayout;
+    }
+
+    public TraceMode getTraceMode() {
+        return traceMode;
+    }
+
+    public Path getTracePath() {
+        return tracePath;
+    }
+
+    // 이 시각 전까지는 출력 없이 이벤트 단위로 빠르게 진행하고, 이후부터 매 틱을 출력한다 (재현 디버깅용)
+    public int getTraceStartTime() {
+        return traceStartTime;
+    }
+
+    // 프로세서별 점유 구간을 timelinePath 파일에 기록한다 (TimelineGanttExporter 로 Gantt 차트를 그린다)
+    public boolean isRecordTimeline() {
+        return recordTimeline;
+    }
+
+    public Path getTimelinePath() {
+        return timelinePath;
+    }
+
+    // 몇 틱마다 체크포인트를 남길지 (0 이면 남기지 않음)
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public Path getCheckpointPath() {
+        return checkpointPath;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[P=%d, %s, q=%d, R=%s, N=%d, %s, %s, seed=%d]",
+                numProcessors, schedulingAlgorithm, timeQuantum, Arrays.toString(givenResources), numProcesses, placementAlgorithm, admissionMode, seed);
+    }
+
+    public static final class Builder {
+        private int numProcessors = Constants.NUM_PROCESSORS;
+        private SchedulingAlgorithm schedulingAlgorithm = Constants.PROCESSOR_SCHEDULING_ALGORITHM;
+        private int timeQuantum = Constants.timeQuantum;
+        private int[] givenResources = Constants.GIVEN_RESOURCES;
+        private int numProcesses = Constants.NUM_PROCESSES;
+        private int processGenerationTimeLimit = Constants.PROCESS_GENERATION_TIME_LIMIT;
+        private int maxProcessRunTime = Constants.MAX_PROCESS_RUN_TIME;
+        private SimulationEngine simulationEngine = Constants.SIMULATION_ENGINE;
+        private int processorSteppingParallelism = Constants.PROCESSOR_STEPPING_PARALLELISM;
+        private PlacementAlgorithm placementAlgorithm = Constants.PLACEMENT_ALGORITHM;
+        private boolean workStealing = Constants.WORK_STEALING;
+        private boolean affinityStealing = Constants.AFFINITY_STEALING;
+        private int contextSwitchCost = Constants.CONTEXT_SWITCH_COST;
+        private int migrationCost = Constants.MIGRATION_COST;
+        private int deadlineSlack = Constants.DEADLINE_SLACK;
+        private int maxTickets = Constants.MAX_TICKETS;
+        private int ioDevices = Constants.IO_DEVICES;
+        private int maxIoBursts = Constants.MAX_IO_BURSTS;
+        private int maxIoTime = Constants.MAX_IO_TIME;
+        private boolean streamingWorkload = Constants.STREAMING_WORKLOAD;
+        private ArrivalProcess arrivalProcess = Constants.ARRIVAL_PROCESS;
+        private int burstSize = Constants.BURST_SIZE;
+        private RunTimeDistribution runTimeDistribution = Constants.RUN_TIME_DISTRIBUTION;
+        private double runTimeShape = Constants.RUN_TIME_SHAPE;
+        private double resourceCorrelation = Constants.RESOURCE_CORRELATION;
+        private AdmissionMode admissionMode = Constants.ADMISSION_MODE;
+        private VictimPolicy victimPolicy = Constants.VICTIM_POLICY;
+        private int deadlockDetectionInterval = Constants.DEADLOCK_DETECTION_INTERVAL;
+        private int admissionCacheSize = Constants.ADMISSION_CACHE_SIZE;
+        private ResourceLayout resourceLayout = Constants.RESOURCE_LAYOUT;
+        private TraceMode traceMode = Constants.TRACE_MODE;
+        private Path tracePath = Path.of(Constants.TRACE_FILE);
+        private int traceStartTime = Constants.TRACE_START_TIME;
+        private boolean recordTimeline = Constants.RECORD_TIMELINE;
+        private Path timelinePath = Path.of(Constants.TIMELINE_FILE);
+        private int checkpointInterval = Constants.CHECKPOINT_INTERVAL;
+        private Path checkpointPath = Path.of(Constants.CHECKPOINT_FILE);
+        private long seed = ThreadLocalRandom.current().nextLong();
+
+        private Builder() {
+        }
+
+        public Builder numProcessors(int numProcessors) {
+            this.numProcessors = numProcessors;
+            return this;
+        }
+
+        public Builder schedulingAlgorithm(SchedulingAlgorithm schedulingAlgorithm) {
+            this.schedulingAlgorithm = schedulingAlgorithm;
+            return this;
+        }
+
+        public Builder timeQuantum(int timeQuantum) {
+            this.timeQuantum = timeQuantum;
+            return this;
+        }
+
+        public Builder givenResources(int[] givenResources) {
+            // null 은 build() 에서 거부한다
+            this.givenResources = givenResources == null ? null : Arrays.copyOf(givenResources, givenResources.length);
+            return this;
+        }
+
+        public Builder numProcesses(int numProcesses) {
+            this.numProcesses = numProcesses;
+            return this;
+        }
+
+        public Builder processGenerationTimeLimit(int processGenerationTimeLimit) {
+            this.processGenerationTimeLimit = processGenerationTimeLimit;
+            return this;
+        }
+
+        public Builder maxProcessRunTime(int maxProcessRunTime) {
+            this.maxProcessRunTime = maxProcessRunTime;
+            return this;
+        }
+
+        public Builder simulationEngine(SimulationEngine simulationEngine) {
+            this.simulationEngine = simulationEngine;
+            return this;
+        }
+
+        public Builder processorSteppingParallelism(int processorSteppingParallelism) {
+            this.processorSteppingParallelism = processorSteppingParallelism;
+            return this;
+        }
+
+        public Builder placementAlgorithm(PlacementAlgorithm placementAlgorithm) {
+            this.placementAlgorithm = placementAlgorithm;
+            return this;
+        }
+
+        public Builder workStealing(boolean workStealing) {
+            this.workStealing = workStealing;
+            return this;
+        }
+
+        public Builder affinityStealing(boolean affinityStealing) {
+            this.affinityStealing = affinityStealing;
+            return this;
+        }
+
+        public Builder contextSwitchCost(int contextSwitchCost) {
+            this.contextSwitchCost = contextSwitchCost;
+            return this;
+        }
+
+        public Builder migrationCost(int migrationCost) {
+            this.migrationCost = migrationCost;
+            return this;
+        }
+
+        public Builder deadlineSlack(int deadlineSlack) {
+            this.deadlineSlack = deadlineSlack;
+            return this;
+        }
+
+        public Builder maxTickets(int maxTickets) {
+            this.maxTickets = maxTickets;
+            return this;
+        }
+
+        public Builder ioDevices(int ioDevices) {
+            this.ioDevices = ioDevices;
+            return this;
+        }
+
+        public Builder maxIoBursts(int maxIoBursts) {
+            this.maxIoBursts = maxIoBursts;
+            return this;
+        }
+
+        public Builder maxIoTime(int maxIoTime) {
+            this.maxIoTime = maxIoTime;
+            return this;
+        }
+
+        public Builder streamingWorkload(boolean streamingWorkload) {
+            this.streamingWorkload = streamingWorkload;
+            return this;
+        }
+
+        public Builder arrivalProcess(ArrivalProcess arrivalProcess) {
+            this.arrivalProcess = arrivalProcess;
+            return this;
+        }
+
+        public Builder burstSize(int burstSize) {
+            this.burstSize = burstSize;
+            return this;
+        }
+
+        public Builder runTimeDistribution(RunTimeDistribution runTimeDistribution) {
+            this.runTimeDistribution = runTimeDistribution;
+            return this;
+        }
+
+        public Builder runTimeShape(double runTimeShape) {
+            this.runTimeShape = runTimeShape;
+            return this;
+        }
+
+        public Builder resourceCorrelation(double resourceCorrelation) {
+            this.resourceCorrelation = resourceCorrelation;
+            return this;
+        }
+
+        public Builder admissionMode(AdmissionMode admissionMode) {
+            this.admissionMode = admissionMode;
+            return this;
+        }
+
+        public Builder victimPolicy(VictimPolicy victimPolicy) {
+            this.victimPolicy = victimPolicy;
+            return this;
+        }
+
+        public Builder deadlockDetectionInterval(int deadlockDetectionInterval) {
+            this.deadlockDetectionInterval = deadlockDetectionInterval;
+            return this;
+        }
+
+        public Builder admissionCacheSize(int admissionCacheSize) {
+            this.admissionCacheSize = admissionCacheSize;
+            return this;
+        }
+
+        public Builder resourceLayout(ResourceLayout resourceLayout) {
+            this.resourceLayout = resourceLayout;
+            return this;
+        }
+
+        public Builder traceMode(TraceMode traceMode) {
+            this.traceMode = traceMode;
+            return this;
+        }
+
+        public Builder tracePath(Path tracePath) {
+            this.tracePath = tracePath;
+            return this;
+        }
+
+        public Builder traceStartTime(int traceStartTime) {
+            this.traceStartTime = traceStartTime;
+            return this;
+        }
+
+        public Builder recordTimeline(boolean recordTimeline) {
+            this.recordTimeline = recordTimeline;
+            return this;
+        }
+
+        public Builder timelinePath(Path timelinePath) {
+            this.timelinePath = timelinePath;
+            return this;
+        }
+
+        public Builder checkpointInterval(int checkpointInterval) {
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        public Builder checkpointPath(Path checkpointPath) {
+            this.checkpointPath = checkpointPath;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SimulationConfig build() {
+            requirePositive("numProcessors", numProcessors);
+            requireNonNull("schedulingAlgorithm", schedulingAlgorithm);
+            requirePositive("timeQuantum", timeQuantum);
+            requireNonNull("givenResources", givenResources);
+            if (givenResources.length == 0) {
+                throw new IllegalArgumentException("givenResources must not be empty");
+            }
+            for (int j = 0; j < givenResources.length; j++) {
+                requireNonNegative("givenResources[" + j + "]", givenResources[j]);
+            }
+            requireNonNegative("numProcesses", numProcesses);
+            requirePositive("maxProcessRunTime", maxProcessRunTime);
+            requireNonNegative("processGenerationTimeLimit", processGenerationTimeLimit);
+            requireNonNull("simulationEngine", simulationEngine);
+            requirePositive("processorSteppingParallelism", processorSteppingParallelism);
+            requireNonNegative("deadlineSlack", deadlineSlack);
+            requireNonNegative("maxTickets", maxTickets);
+            requireNonNegative("contextSwitchCost", contextSwitchCost);
+            requireNonNegative("migrationCost", migrationCost);
+            requireNonNegative("ioDevices", ioDevices);
+            requireNonNegative("maxIoBursts", maxIoBursts);
+            requirePositive("maxIoTime", maxIoTime);
+            requireNonNull("arrivalProcess", arrivalProcess);
+            requirePositive("burstSize", burstSize);
+            requireNonNull("runTimeDistribution", runTimeDistribution);
+            if (!(runTimeShape > 0)) {
+                throw new IllegalArgumentException("runTimeShape must be positive: " + runTimeShape);
+            }
+            if (runTimeDistribution == RunTimeDistribution.PARETO && !(runTimeShape > 1)) {
+                throw new IllegalArgumentException("runTimeShape must be greater than 1 for PARETO: " + runTimeShape);
+            }
+            if (!(resourceCorrelation >= 0 && resourceCorrelation <= 1)) {
+                throw new IllegalArgumentException("resourceCorrelation must be in [0, 1]: " + resourceCorrelation);
+            }
+            if (!streamingWorkload && (arrivalProcess != ArrivalProcess.UNIFORM
+                    || runTimeDistribution != RunTimeDistribution.UNIFORM || resourceCorrelation != 0)) {
+                throw new IllegalArgumentException("Workload distributions require streamingWorkload");
+            }
+            requireNonNull("placementAlgorithm", placementAlgorithm);
+            requireNonNull("admissionMode", admissionMode);
+            requireNonNull("victimPolicy", victimPolicy);
+            requireNonNegative("deadlockDetectionInterval", deadlockDetectionInterval);
+            requireNonNegative("admissionCacheSize", admissionCacheSize);
+            requireNonNull("resourceLayout", resourceLayout);
+            requireNonNull("traceMode", traceMode);
+            if (traceMode == TraceMode.BINARY && tracePath == null) {
+                throw new IllegalArgumentException("tracePath is required for BINARY traceMode");
+            }
+            requireNonNegative("traceStartTime", traceStartTime);
+            if (recordTimeline && timelinePath == null) {
+                throw new IllegalArgumentException("timelinePath is required when recordTimeline is set");
+            }
+            requireNonNegative("checkpointInterval", checkpointInterval);
+            if (checkpointInterval > 0 && checkpointPath == null) {
+                throw new IllegalArgumentException("checkpointPath is required when checkpointInterval is " + checkpointInterval);
+            }
+            return new SimulationConfig(this);
+        }
+
+        private static void requirePositive(String name, int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+        }
+
+        private static void requireNonNegative(String name, int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative: " + value);
+            }
+        }
+
+        private static void requireNonNull(String name, Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException(name + " must not be null");
+            }
+        }
+    }
+}
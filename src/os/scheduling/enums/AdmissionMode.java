@@ -0,0 +1,6 @@
+package os.scheduling.enums;
+
+public enum AdmissionMode {
+    AVOIDANCE,
+    DETECTION
+}
@@ -0,0 +1,7 @@
+package os.scheduling.enums;
+
+public enum ArrivalProcess {
+    UNIFORM,
+    POISSON,
+    BURSTY
+}
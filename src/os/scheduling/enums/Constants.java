@@ -9,4 +9,34 @@ public class Constants {
     public static final SchedulingAlgorithm PROCESSOR_SCHEDULING_ALGORITHM = SchedulingAlgorithm.FCFS;
     public static final int[] GIVEN_RESOURCES = {5, 5, 5, 5, 5};
     public static final int timeQuantum = 3;
+    public static final SimulationEngine SIMULATION_ENGINE = SimulationEngine.TICK;
+    public static final int PROCESSOR_STEPPING_PARALLELISM = 1;
+    public static final PlacementAlgorithm PLACEMENT_ALGORITHM = PlacementAlgorithm.LEAST_LOADED;
+    public static final boolean WORK_STEALING = false;
+    public static final boolean AFFINITY_STEALING = false;
+    public static final int CONTEXT_SWITCH_COST = 0;
+    public static final int MIGRATION_COST = 0;
+    public static final int DEADLINE_SLACK = 2;
+    public static final int MAX_TICKETS = 0;
+    public static final int IO_DEVICES = 0;
+    public static final int MAX_IO_BURSTS = 3;
+    public static final int MAX_IO_TIME = 5;
+    public static final boolean STREAMING_WORKLOAD = false;
+    public static final ArrivalProcess ARRIVAL_PROCESS = ArrivalProcess.UNIFORM;
+    public static final int BURST_SIZE = 8;
+    public static final RunTimeDistribution RUN_TIME_DISTRIBUTION = RunTimeDistribution.UNIFORM;
+    public static final double RUN_TIME_SHAPE = 1.5;
+    public static final double RESOURCE_CORRELATION = 0.0;
+    public static final AdmissionMode ADMISSION_MODE = AdmissionMode.AVOIDANCE;
+    public static final VictimPolicy VICTIM_POLICY = VictimPolicy.YOUNGEST;
+    public static final int DEADLOCK_DETECTION_INTERVAL = 10;
+    public static final int ADMISSION_CACHE_SIZE = 0;
+    public static final ResourceLayout RESOURCE_LAYOUT = ResourceLayout.DENSE;
+    public static final TraceMode TRACE_MODE = TraceMode.TEXT;
+    public static final String TRACE_FILE = "simulation-trace.bin";
+    public static final int TRACE_START_TIME = 0;
+    public static final boolean RECORD_TIMELINE = false;
+    public static final String TIMELINE_FILE = "simulation-timeline.bin";
+    public static final int CHECKPOINT_INTERVAL = 0;
+    public static final String CHECKPOINT_FILE = "simulation.ckpt";
 }
@@ -0,0 +1,7 @@
+package os.scheduling.enums;
+
+public enum PlacementAlgorithm {
+    LEAST_LOADED,
+    POWER_OF_TWO_CHOICES,
+    ROUND_ROBIN
+}
@@ -0,0 +1,6 @@
+package os.scheduling.enums;
+
+public enum ResourceLayout {
+    DENSE,
+    SPARSE
+}
@@ -4,5 +4,10 @@ public enum SchedulingAlgorithm {
     FCFS,
     RR,
     SJF,
-    SRJF
+    SRJF,
+    MLFQ,
+    CFS,
+    EDF,
+    LOTTERY,
+    STRIDE
 }
\ No newline at end of file
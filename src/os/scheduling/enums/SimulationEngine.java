@@ -0,0 +1,6 @@
+package os.scheduling.enums;
+
+public enum SimulationEngine {
+    TICK,
+    EVENT
+}
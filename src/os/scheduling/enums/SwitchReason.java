@@ -0,0 +1,9 @@
+package os.scheduling.enums;
+
+// 프로세스가 프로세서에서 내려온 이유 (END: 실행이 끝날 때까지 실행 중이었다)
+public enum SwitchReason {
+    PREEMPTED,
+    FINISHED,
+    BLOCKED,
+    END
+}
@@ -0,0 +1,7 @@
+package os.scheduling.enums;
+
+public enum VictimPolicy {
+    YOUNGEST,
+    FEWEST_HELD_RESOURCES,
+    LARGEST_REMAINING_NEED
+}
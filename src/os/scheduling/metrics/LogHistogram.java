@@ -0,0 +1,129 @@
+package os.scheduling.metrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// 0 이상 정수 값을 로그 간격 버킷에 세는 고정 크기 히스토그램
+// 64 미만은 값 그대로, 그 이상은 2의 거듭제곱 구간마다 32개 하위 버킷으로 나누어 상대 오차가 1/32 이하
+public class LogHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndex(Integer.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long sum = 0;
+    private int min = Integer.MAX_VALUE;
+    private int max = 0;
+
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(LogHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    // 체크포인트: 값이 있는 버킷만 (번호, 개수) 로 기록한다
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(totalCount);
+        out.writeLong(sum);
+        out.writeInt(min);
+        out.writeInt(max);
+        int usedBuckets = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                usedBuckets++;
+            }
+        }
+        out.writeInt(usedBuckets);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                out.writeInt(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    public void readState(DataInput in) throws IOException {
+        totalCount = in.readLong();
+        sum = in.readLong();
+        min = in.readInt();
+        max = in.readInt();
+        Arrays.fill(counts, 0);
+        int usedBuckets = in.readInt();
+        for (int i = 0; i < usedBuckets; i++) {
+            counts[in.readInt()] = in.readLong();
+        }
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    public int getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    // nearest-rank 백분위수. 해당 버킷의 상한을 돌려주되 실제 최댓값을 넘지 않는다
+    public int getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (int) Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Integer.MAX_VALUE;
+        max = 0;
+    }
+
+    private static int bucketIndex(int value) {
+        int exponent = 31 - Integer.numberOfLeadingZeros(value | 1);
+        int shift = Math.max(0, exponent - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_COUNT + (value >>> shift);
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
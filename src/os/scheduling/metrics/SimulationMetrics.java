@@ -0,0 +1,330 @@
+package os.scheduling.metrics;
+
+import os.scheduling.model.IoDevice;
+import os.scheduling.model.Process;
+import os.scheduling.model.Processor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+// 프로세스 지연 시간 분포와 프로세서 사용량. 실행 하나의 값이며, 여러 실행(같은 프로세서 수)을 합칠 수 있다
+public class SimulationMetrics {
+    private final LogHistogram turnaroundTimes = new LogHistogram();
+    private final LogHistogram waitingTimes = new LogHistogram();
+    private final LogHistogram responseTimes = new LogHistogram();
+    private final long[] busyTicks;
+    private final long[] idleTicks;
+    private final long[] contextSwitches;
+    private final long[] preemptions;
+    private final long[] stolenProcesses;
+    private final long[] switchTicks;
+    private final long[] migrationTicks;
+    private final long[] migrations;
+    private long deadlineProcesses = 0;
+    private long deadlineMisses = 0;
+    private long admissionChecks = 0;
+    private long deadlocks = 0;
+    private long rollbacks = 0;
+    private long admissionCacheHits = 0;
+    private long admissionCacheMisses = 0;
+    private long ioBursts = 0;
+    private long ioBusyTicks = 0;
+    private long ioDeviceTicks = 0;
+    private long ioBlockedTicks = 0;
+    private long totalTicks = 0;
+    private int runs = 0;
+
+    public SimulationMetrics(int numProcessors) {
+        this.busyTicks = new long[numProcessors];
+        this.idleTicks = new long[numProcessors];
+        this.contextSwitches = new long[numProcessors];
+        this.preemptions = new long[numProcessors];
+        this.stolenProcesses = new long[numProcessors];
+        this.switchTicks = new long[numProcessors];
+        this.migrationTicks = new long[numProcessors];
+        this.migrations = new long[numProcessors];
+    }
+
+    // 대기 시간 = 반환 시간 - 실행 시간 - 입출력 시간, 응답 시간 = 첫 실행 시각 - 도착 시각
+    public void recordCompletion(Process process) {
+        int turnaroundTime = process.getTurnaroundTime();
+        turnaroundTimes.record(turnaroundTime);
+        waitingTimes.record(turnaroundTime - process.getRunTime() - process.getIoTicks());
+        ioBlockedTicks += process.getIoTicks();
+        responseTimes.record(process.getResponseTime());
+        if (process.hasDeadline()) {
+            deadlineProcesses++;
+            if (process.getCompletionTime() > process.getDeadline()) {
+                deadlineMisses++;
+            }
+        }
+    }
+
+    // 자원 할당 비용: 할당 단계에서 검사한 행(프로세스 하나의 요구량 비교) 수
+    public void recordAdmissionChecks(long rowChecks) {
+        admissionChecks += rowChecks;
+    }
+
+    // 안전성 검사 캐시 적중 / 실패 수. TICK 엔진은 변화 없는 틱마다 적중으로 세므로 EVENT 엔진보다 적중이 많다
+    public void recordAdmissionCache(long hits, long misses) {
+        admissionCacheHits += hits;
+        admissionCacheMisses += misses;
+    }
+
+    // 탐지된 교착 상태 하나와, 이를 풀기 위해 자원을 회수한 프로세스 수
+    public void recordDeadlock(int rolledBackProcesses) {
+        deadlocks++;
+        rollbacks += rolledBackProcesses;
+    }
+
+    // 실행이 끝난 뒤 프로세서 카운터를 옮겨 온다
+    public void recordRun(List<Processor> processors, int finishTime) {
+        if (processors.size() != busyTicks.length) {
+            throw new IllegalArgumentException("Expected " + busyTicks.length + " processors but got " + processors.size());
+        }
+        for (int i = 0; i < busyTicks.length; i++) {
+            Processor processor = processors.get(i);
+            busyTicks[i] += processor.getBusyTicks();
+            idleTicks[i] += processor.getIdleTicks();
+            contextSwitches[i] += processor.getContextSwitches();
+            preemptions[i] += processor.getPreemptions();
+            stolenProcesses[i] += processor.getStolenProcesses();
+            switchTicks[i] += processor.getSwitchTicks();
+            migrationTicks[i] += processor.getMigrationTicks();
+            migrations[i] += processor.getMigrations();
+        }
+        totalTicks += finishTime;
+        runs++;
+    }
+
+    // 실행이 끝난 뒤 입출력 장치 카운터를 옮겨 온다 (장치가 없는 실행은 호출하지 않는다)
+    public void recordIoDevices(List<IoDevice> devices, int finishTime) {
+        for (IoDevice device : devices) {
+            ioBursts += device.getCompletedBursts();
+            ioBusyTicks += device.getBusyTicks();
+            ioDeviceTicks += finishTime;
+        }
+    }
+
+    public void merge(SimulationMetrics other) {
+        if (other.busyTicks.length != busyTicks.length) {
+            throw new IllegalArgumentException("Cannot merge metrics of " + other.busyTicks.length + " processors into " + busyTicks.length);
+        }
+        turnaroundTimes.merge(other.turnaroundTimes);
+        waitingTimes.merge(other.waitingTimes);
+        responseTimes.merge(other.responseTimes);
+        for (int i = 0; i < busyTicks.length; i++) {
+            busyTicks[i] += other.busyTicks[i];
+            idleTicks[i] += other.idleTicks[i];
+            contextSwitches[i] += other.contextSwitches[i];
+            preemptions[i] += other.preemptions[i];
+            stolenProcesses[i] += other.stolenProcesses[i];
+            switchTicks[i] += other.switchTicks[i];
+            migrationTicks[i] += other.migrationTicks[i];
+            migrations[i] += other.migrations[i];
+        }
+        deadlineProcesses += other.deadlineProcesses;
+        deadlineMisses += other.deadlineMisses;
+        admissionChecks += other.admissionChecks;
+        deadlocks += other.deadlocks;
+        rollbacks += other.rollbacks;
+        admissionCacheHits += other.admissionCacheHits;
+        admissionCacheMisses += other.admissionCacheMisses;
+        ioBursts += other.ioBursts;
+        ioBusyTicks += other.ioBusyTicks;
+        ioDeviceTicks += other.ioDeviceTicks;
+        ioBlockedTicks += other.ioBlockedTicks;
+        totalTicks += other.totalTicks;
+        runs += other.runs;
+    }
+
+    // 체크포인트: 프로세서 카운터는 Processor 가 직접 저장하므로, 이미 옮겨 온 실행 단위 값만 기록한다
+    public void writeState(DataOutput out) throws IOException {
+        turnaroundTimes.writeState(out);
+        waitingTimes.writeState(out);
+        responseTimes.writeState(out);
+        for (long[] column : new long[][]{busyTicks, idleTicks, contextSwitches, preemptions, stolenProcesses, switchTicks, migrationTicks, migrations}) {
+            for (long value : column) {
+                out.writeLong(value);
+            }
+        }
+        out.writeLong(deadlineProcesses);
+        out.writeLong(deadlineMisses);
+        out.writeLong(admissionChecks);
+        out.writeLong(deadlocks);
+        out.writeLong(rollbacks);
+        out.writeLong(admissionCacheHits);
+        out.writeLong(admissionCacheMisses);
+        out.writeLong(ioBursts);
+        out.writeLong(ioBusyTicks);
+        out.writeLong(ioDeviceTicks);
+        out.writeLong(ioBlockedTicks);
+        out.writeLong(totalTicks);
+        out.writeInt(runs);
+    }
+
+    public void readState(DataInput in) throws IOException {
+        turnaroundTimes.readState(in);
+        waitingTimes.readState(in);
+        responseTimes.readState(in);
+        for (long[] column : new long[][]{busyTicks, idleTicks, contextSwitches, preemptions, stolenProcesses, switchTicks, migrationTicks, migrations}) {
+            for (int i = 0; i < column.length; i++) {
+                column[i] = in.readLong();
+            }
+        }
+        deadlineProcesses = in.readLong();
+        deadlineMisses = in.readLong();
+        admissionChecks = in.readLong();
+        deadlocks = in.readLong();
+        rollbacks = in.readLong();
+        admissionCacheHits = in.readLong();
+        admissionCacheMisses = in.readLong();
+        ioBursts = in.readLong();
+        ioBusyTicks = in.readLong();
+        ioDeviceTicks = in.readLong();
+        ioBlockedTicks = in.readLong();
+        totalTicks = in.readLong();
+        runs = in.readInt();
+    }
+
+    public LogHistogram getTurnaroundTimes() {
+        return turnaroundTimes;
+    }
+
+    public LogHistogram getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    public LogHistogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    public long getCompletedProcesses() {
+        return turnaroundTimes.getCount();
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public long getTotalContextSwitches() {
+        return Arrays.stream(contextSwitches).sum();
+    }
+
+    public long getTotalStolenProcesses() {
+        return Arrays.stream(stolenProcesses).sum();
+    }
+
+    // 프로세스를 올리느라 실행하지 못한 틱 수 (문맥 교환 비용 + 이전 비용)
+    public long getOverheadTicks() {
+        return Arrays.stream(switchTicks).sum() + Arrays.stream(migrationTicks).sum();
+    }
+
+    public long getTotalMigrations() {
+        return Arrays.stream(migrations).sum();
+    }
+
+    // 전체 프로세서 시간 중 전환 비용으로 잃은 비율
+    public double getOverheadFraction() {
+        long total = getOverheadTicks() + Arrays.stream(busyTicks).sum() + Arrays.stream(idleTicks).sum();
+        return total == 0 ? 0 : (double) getOverheadTicks() / total;
+    }
+
+    public long getAdmissionChecks() {
+        return admissionChecks;
+    }
+
+    public long getDeadlocks() {
+        return deadlocks;
+    }
+
+    public long getRollbacks() {
+        return rollbacks;
+    }
+
+    public long getAdmissionCacheHits() {
+        return admissionCacheHits;
+    }
+
+    public long getAdmissionCacheMisses() {
+        return admissionCacheMisses;
+    }
+
+    public double getAdmissionCacheHitRate() {
+        long lookups = admissionCacheHits + admissionCacheMisses;
+        return lookups == 0 ? 0 : (double) admissionCacheHits / lookups;
+    }
+
+    public long getIoBursts() {
+        return ioBursts;
+    }
+
+    // 전체 장치 시간 중 입출력을 처리한 비율
+    public double getIoUtilization() {
+        return ioDeviceTicks == 0 ? 0 : (double) ioBusyTicks / ioDeviceTicks;
+    }
+
+    // 마감 시각이 있는 프로세스 중 마감을 넘겨 끝난 비율
+    public double getDeadlineMissRate() {
+        return deadlineProcesses == 0 ? 0 : (double) deadlineMisses / deadlineProcesses;
+    }
+
+    // 전체 프로세서 시간 중 프로세스를 실행한 비율 (전환 비용을 치른 틱은 실행으로 치지 않는다)
+    public double getUtilization() {
+        long busy = Arrays.stream(busyTicks).sum();
+        long total = busy + Arrays.stream(idleTicks).sum() + getOverheadTicks();
+        return total == 0 ? 0 : (double) busy / total;
+    }
+
+    public double getProcessorUtilization(int processorIndex) {
+        long total = busyTicks[processorIndex] + idleTicks[processorIndex] + switchTicks[processorIndex] + migrationTicks[processorIndex];
+        return total == 0 ? 0 : (double) busyTicks[processorIndex] / total;
+    }
+
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("================ SUMMARY ================\n");
+        report.append(String.format("Runs %d, ticks %d, completed processes %d, throughput %.4f per tick\n",
+                runs, totalTicks, getCompletedProcesses(), totalTicks == 0 ? 0 : (double) getCompletedProcesses() / totalTicks));
+        report.append(String.format("%-11s %9s %7s %7s %7s %7s\n", "LATENCY", "mean", "p50", "p99", "p999", "max"));
+        appendLatency(report, "turnaround", turnaroundTimes);
+        appendLatency(report, "waiting", waitingTimes);
+        appendLatency(report, "response", responseTimes);
+        if (deadlineProcesses > 0) {
+            report.append(String.format("Deadline misses %d of %d (%.2f%%)\n", deadlineMisses, deadlineProcesses, 100 * getDeadlineMissRate()));
+        }
+        report.append(String.format("Admission checks %d (%.2f per completed process), deadlocks %d, rollbacks %d\n",
+                admissionChecks, getCompletedProcesses() == 0 ? 0 : (double) admissionChecks / getCompletedProcesses(), deadlocks, rollbacks));
+        if (admissionCacheHits + admissionCacheMisses > 0) {
+            report.append(String.format("Admission cache hits %d, misses %d (%.2f%% hit rate)\n",
+                    admissionCacheHits, admissionCacheMisses, 100 * getAdmissionCacheHitRate()));
+        }
+        if (getOverheadTicks() + getTotalMigrations() > 0) {
+            report.append(String.format("Switch overhead %d ticks (%d context switch, %d migration; %.2f%% of processor time), migrations %d\n",
+                    getOverheadTicks(), Arrays.stream(switchTicks).sum(), Arrays.stream(migrationTicks).sum(),
+                    100 * getOverheadFraction(), getTotalMigrations()));
+        }
+        if (ioDeviceTicks > 0) {
+            report.append(String.format("I/O bursts %d, device utilization %.3f, blocked on I/O %.2f ticks per completed process\n",
+                    ioBursts, getIoUtilization(), getCompletedProcesses() == 0 ? 0 : (double) ioBlockedTicks / getCompletedProcesses()));
+        }
+        report.append(String.format("%-11s %9s %9s %11s %9s %11s %7s\n", "PROCESSOR", "busy", "idle", "utilization", "switches", "preemptions", "stolen"));
+        for (int i = 0; i < busyTicks.length; i++) {
+            report.append(String.format("P%-10d %9d %9d %11.3f %9d %11d %7d\n",
+                    i, busyTicks[i], idleTicks[i], getProcessorUtilization(i), contextSwitches[i], preemptions[i], stolenProcesses[i]));
+        }
+        report.append(String.format("%-11s %9d %9d %11.3f %9d %11d %7d\n", "total",
+                Arrays.stream(busyTicks).sum(), Arrays.stream(idleTicks).sum(), getUtilization(),
+                getTotalContextSwitches(), Arrays.stream(preemptions).sum(), getTotalStolenProcesses()));
+        return report.toString();
+    }
+
+    private static void appendLatency(StringBuilder report, String name, LogHistogram histogram) {
+        report.append(String.format("%-11s %9.2f %7d %7d %7d %7d\n", name, histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9), histogram.getMax()));
+    }
+}
@@ -0,0 +1,10 @@
+package os.scheduling.model;
+
+// 마감 시각이 가장 이른 프로세스 우선 (EDF). 마감이 없는 프로세스는 맨 뒤
+public class DeadlineProcessQueue extends KeyedProcessQueue {
+
+    @Override
+    protected long keyOf(Process process) {
+        return process.getDeadline();
+    }
+}
@@ -0,0 +1,137 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 원형 버퍼 기반 FIFO 큐 (FCFS, RR)
+public class FifoProcessQueue extends ProcessQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Process[] elements = new Process[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    @Override
+    public void enqueue(Process process) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) % elements.length] = process;
+        size++;
+        onEnqueued(process);
+    }
+
+    @Override
+    public Process peek() {
+        return size == 0 ? null : elements[head];
+    }
+
+    @Override
+    public Process dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        Process process = elements[head];
+        elements[head] = null;
+        head = (head + 1) % elements.length;
+        size--;
+        onRemoved(process);
+        return process;
+    }
+
+    // 맨 뒤에서 꺼낸다
+    @Override
+    public Process steal() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = (head + size - 1) % elements.length;
+        Process process = elements[tail];
+        elements[tail] = null;
+        size--;
+        onRemoved(process);
+        return process;
+    }
+
+    @Override
+    // 빈 자리는 가까운 끝 쪽을 당겨 메운다 (앞쪽 원소를 빼면 앞쪽만 옮긴다)
+    public boolean remove(Process process) {
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) % elements.length] == process) {
+                if (i < size / 2) {
+                    for (int j = i; j > 0; j--) {
+                        elements[(head + j) % elements.length] = elements[(head + j - 1) % elements.length];
+                    }
+                    elements[head] = null;
+                    head = (head + 1) % elements.length;
+                } else {
+                    for (int j = i; j < size - 1; j++) {
+                        elements[(head + j) % elements.length] = elements[(head + j + 1) % elements.length];
+                    }
+                    elements[(head + size - 1) % elements.length] = null;
+                }
+                size--;
+                onRemoved(process);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(processIndex.applyAsInt(elements[(head + i) % elements.length]));
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            enqueue(processAt.apply(in.readInt()));
+        }
+    }
+
+    @Override
+    public Iterator<Process> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Process next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements[(head + index++) % elements.length];
+            }
+        };
+    }
+
+    private void grow() {
+        Process[] grown = new Process[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) % elements.length];
+        }
+        Arrays.fill(elements, null);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,11 @@
+package os.scheduling.model;
+
+// 프로세스가 cpuTime 틱 동안 실행한 뒤 프로세서를 내려놓고 device 에서 ioTime 틱 동안 입출력한다
+// 작업의 입출력 구간은 순서대로 이어지며, 마지막 입출력 뒤에 남은 실행 시간이 마지막 CPU 구간이 된다
+public record IoBurst(int cpuTime, int device, int ioTime) {
+
+    @Override
+    public String toString() {
+        return cpuTime + ":" + device + ":" + ioTime;
+    }
+}
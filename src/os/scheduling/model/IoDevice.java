@@ -0,0 +1,90 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 입출력 장치: 요청을 도착 순으로 하나씩 처리한다 (큐 맨 앞 프로세스가 처리 중)
+public class IoDevice {
+    private final ProcessQueue queue = new FifoProcessQueue();
+    private int remainingServiceTicks = 0;
+
+    // 통계 카운터
+    private long busyTicks = 0;
+    private long completedBursts = 0;
+
+    // 틱 t 에 프로세서를 내려놓은 프로세스는 틱 t + 1 부터 처리된다
+    public void submit(Process process, int currentTime) {
+        process.startIoBurst(currentTime + 1);
+        queue.enqueue(process);
+        if (queue.size() == 1) {
+            remainingServiceTicks = process.getIoTime();
+        }
+    }
+
+    // 이번 틱 동안 맨 앞 요청을 처리하고, 끝났으면 그 프로세스를 돌려준다
+    public Process serveTick(int currentTime) {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        advance(1);
+        if (remainingServiceTicks > 0) {
+            return null;
+        }
+        Process completed = queue.dequeue();
+        completed.completeIoBurst(currentTime + 1);
+        completedBursts++;
+        Process next = queue.peek();
+        if (next != null) {
+            remainingServiceTicks = next.getIoTime();
+        }
+        return completed;
+    }
+
+    // 이벤트 엔진이 건너뛰는 틱 (그 사이에 끝나는 요청이 없어야 한다)
+    public void advance(int ticks) {
+        if (!queue.isEmpty()) {
+            remainingServiceTicks -= ticks;
+            busyTicks += ticks;
+        }
+    }
+
+    // 맨 앞 요청이 끝나는 틱까지 건너뛸 수 있는 틱 수
+    public int ticksUntilNextEvent() {
+        return queue.isEmpty() ? Processor.NO_EVENT : remainingServiceTicks - 1;
+    }
+
+    public boolean isIdle() {
+        return queue.isEmpty();
+    }
+
+    public List<Process> getQueue() {
+        return queue.getQueue();
+    }
+
+    public long getBusyTicks() {
+        return busyTicks;
+    }
+
+    public long getCompletedBursts() {
+        return completedBursts;
+    }
+
+    // 체크포인트: 남은 처리 시간, 통계 카운터, 큐
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeInt(remainingServiceTicks);
+        out.writeLong(busyTicks);
+        out.writeLong(completedBursts);
+        queue.writeState(out, processIndex);
+    }
+
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        remainingServiceTicks = in.readInt();
+        busyTicks = in.readLong();
+        completedBursts = in.readLong();
+        queue.readState(in, processAt);
+    }
+}
@@ -0,0 +1,203 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 큐에 넣을 때 정해지는 키 기준 인덱스 최소 힙
+// 키가 같으면 먼저 들어온 프로세스가 우선한다
+public abstract class KeyedProcessQueue extends ProcessQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Process[] heap = new Process[INITIAL_CAPACITY];
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private int size = 0;
+    private long nextSequence = 0;
+
+    // 큐에 있는 동안 바뀌지 않는 값이어야 한다
+    protected abstract long keyOf(Process process);
+
+    @Override
+    public void enqueue(Process process) {
+        if (size == heap.length) {
+            grow();
+        }
+        int position = size++;
+        place(position, process, keyOf(process), nextSequence++);
+        siftUp(position);
+        onEnqueued(process);
+    }
+
+    @Override
+    public Process peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public Process dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        Process process = heap[0];
+        removeAt(0);
+        return process;
+    }
+
+    // 키가 가장 큰 프로세스 (같으면 나중에 들어온 것). 최댓값은 항상 잎 노드에 있으므로 뒤쪽 절반만 본다
+    @Override
+    public Process steal() {
+        if (size == 0) {
+            return null;
+        }
+        int longest = size - 1;
+        for (int position = size / 2; position < size; position++) {
+            if (isLess(longest, position)) {
+                longest = position;
+            }
+        }
+        Process process = heap[longest];
+        removeAt(longest);
+        return process;
+    }
+
+    @Override
+    public boolean remove(Process process) {
+        int position = process.getQueuePosition();
+        if (position < 0 || position >= size || heap[position] != process) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // 힙 배열 배치와 순번까지 그대로 기록해, 되살린 큐가 같은 순서로 꺼내도록 한다
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeLong(nextSequence);
+        out.writeInt(size);
+        for (int position = 0; position < size; position++) {
+            out.writeInt(processIndex.applyAsInt(heap[position]));
+            out.writeLong(keys[position]);
+            out.writeLong(sequences[position]);
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        nextSequence = in.readLong();
+        int count = in.readInt();
+        while (heap.length < count) {
+            grow();
+        }
+        for (int position = 0; position < count; position++) {
+            Process process = processAt.apply(in.readInt());
+            place(position, process, in.readLong(), in.readLong());
+            size++;
+            onEnqueued(process);
+        }
+    }
+
+    @Override
+    public Iterator<Process> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Process next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return heap[index++];
+            }
+        };
+    }
+
+    private void removeAt(int position) {
+        onRemoved(heap[position]);
+        heap[position].setQueuePosition(-1);
+        int last = --size;
+        if (position != last) {
+            place(position, heap[last], keys[last], sequences[last]);
+            heap[last] = null;
+            siftDown(position);
+            siftUp(position);
+        } else {
+            heap[last] = null;
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isLess(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && isLess(left, smallest)) {
+                smallest = left;
+            }
+            if (right < size && isLess(right, smallest)) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private boolean isLess(int a, int b) {
+        if (keys[a] != keys[b]) {
+            return keys[a] < keys[b];
+        }
+        return sequences[a] < sequences[b];
+    }
+
+    private void swap(int a, int b) {
+        Process process = heap[a];
+        long key = keys[a];
+        long sequence = sequences[a];
+        place(a, heap[b], keys[b], sequences[b]);
+        place(b, process, key, sequence);
+    }
+
+    private void place(int position, Process process, long key, long sequence) {
+        heap[position] = process;
+        keys[position] = key;
+        sequences[position] = sequence;
+        process.setQueuePosition(position);
+    }
+
+    private void grow() {
+        int capacity = heap.length * 2;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+}
@@ -0,0 +1,228 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 티켓 수에 비례한 확률로 다음 프로세스를 뽑는다 (추첨 스케줄링)
+// 슬롯별 티켓 수를 펜윅 트리에 두어 추첨, 추가, 삭제가 모두 O(log n)
+public class LotteryProcessQueue extends ProcessQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SplitMix64Random random;
+    private Process[] slots = new Process[INITIAL_CAPACITY];
+    private long[] slotTickets = new long[INITIAL_CAPACITY];
+    private long[] tree = new long[INITIAL_CAPACITY + 1];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount = 0;
+    private int usedSlots = 0;
+    private int size = 0;
+    private long totalTickets = 0;
+    // 다음 당첨 슬롯 (peek 와 dequeue 가 같은 프로세스를 돌려주도록 큐가 바뀔 때까지 유지)
+    private int winner = -1;
+
+    public LotteryProcessQueue(long seed) {
+        this.random = new SplitMix64Random(seed);
+    }
+
+    @Override
+    public void enqueue(Process process) {
+        int slot = allocateSlot();
+        slots[slot] = process;
+        slotTickets[slot] = process.getTickets();
+        add(slot, slotTickets[slot]);
+        totalTickets += slotTickets[slot];
+        process.setQueuePosition(slot);
+        size++;
+        winner = -1;
+        onEnqueued(process);
+    }
+
+    @Override
+    public Process peek() {
+        if (size == 0) {
+            return null;
+        }
+        if (winner < 0) {
+            winner = draw();
+        }
+        return slots[winner];
+    }
+
+    @Override
+    public Process dequeue() {
+        Process process = peek();
+        if (process != null) {
+            removeAt(winner);
+        }
+        return process;
+    }
+
+    @Override
+    public boolean remove(Process process) {
+        int slot = process.getQueuePosition();
+        if (slot < 0 || slot >= usedSlots || slots[slot] != process) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    // 가져갈 프로세스도 추첨으로 정한다
+    @Override
+    public Process steal() {
+        if (size == 0) {
+            return null;
+        }
+        int slot = draw();
+        Process process = slots[slot];
+        removeAt(slot);
+        return process;
+    }
+
+    // 큐의 티켓과 currentProcess 의 티켓을 합쳐 한 번 추첨해, 큐 쪽이 당첨되면 true
+    public boolean drawsOver(Process currentProcess) {
+        return random.nextLong(totalTickets + currentProcess.getTickets()) < totalTickets;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // 슬롯 배치, 빈 슬롯 순서, 난수 상태, 미리 뽑아 둔 당첨 슬롯까지 기록해 같은 추첨 결과를 재현한다
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeLong(random.getState());
+        out.writeInt(winner);
+        out.writeInt(usedSlots);
+        for (int slot = 0; slot < usedSlots; slot++) {
+            out.writeInt(slots[slot] == null ? -1 : processIndex.applyAsInt(slots[slot]));
+            out.writeLong(slotTickets[slot]);
+        }
+        out.writeInt(freeSlotCount);
+        for (int i = 0; i < freeSlotCount; i++) {
+            out.writeInt(freeSlots[i]);
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        random.setState(in.readLong());
+        int savedWinner = in.readInt();
+        int slotCount = in.readInt();
+        while (slots.length < slotCount) {
+            grow();
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            int index = in.readInt();
+            long ticketCount = in.readLong();
+            if (index >= 0) {
+                Process process = processAt.apply(index);
+                slots[slot] = process;
+                slotTickets[slot] = ticketCount;
+                add(slot, ticketCount);
+                totalTickets += ticketCount;
+                process.setQueuePosition(slot);
+                size++;
+                onEnqueued(process);
+            }
+        }
+        usedSlots = slotCount;
+        freeSlotCount = in.readInt();
+        for (int i = 0; i < freeSlotCount; i++) {
+            freeSlots[i] = in.readInt();
+        }
+        winner = savedWinner;
+    }
+
+    @Override
+    public Iterator<Process> iterator() {
+        return new Iterator<>() {
+            private int slot = nextUsed(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < usedSlots;
+            }
+
+            @Override
+            public Process next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Process process = slots[slot];
+                slot = nextUsed(slot + 1);
+                return process;
+            }
+
+            private int nextUsed(int from) {
+                while (from < usedSlots && slots[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+        };
+    }
+
+    private void removeAt(int slot) {
+        Process process = slots[slot];
+        add(slot, -slotTickets[slot]);
+        totalTickets -= slotTickets[slot];
+        slotTickets[slot] = 0;
+        slots[slot] = null;
+        process.setQueuePosition(-1);
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+        winner = -1;
+        onRemoved(process);
+    }
+
+    // 누적 티켓 수가 난수를 처음 넘는 슬롯을 트리를 따라 내려가며 찾는다
+    private int draw() {
+        long target = random.nextLong(totalTickets);
+        int position = 0;
+        for (int step = Integer.highestOneBit(slots.length); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= slots.length && tree[next] <= target) {
+                target -= tree[next];
+                position = next;
+            }
+        }
+        return position;
+    }
+
+    private void add(int slot, long delta) {
+        for (int i = slot + 1; i <= slots.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (usedSlots == slots.length) {
+            grow();
+        }
+        return usedSlots++;
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+        slots = Arrays.copyOf(slots, capacity);
+        slotTickets = Arrays.copyOf(slotTickets, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        tree = new long[capacity + 1];
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (slotTickets[slot] != 0) {
+                add(slot, slotTickets[slot]);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 우선순위 단계별 FIFO 큐 (MLFQ). 단계 번호가 작을수록 먼저 실행된다
+// 노화: 한 단계에서 agingDispatches 번의 배정 동안 선택되지 못한 프로세스는 한 단계 올라간다
+// 각 단계의 맨 앞이 가장 오래 기다린 프로세스이므로 배정마다 단계 수만큼만 확인하면 된다
+public class MultiLevelProcessQueue extends ProcessQueue {
+    private final FifoProcessQueue[] levels;
+    private final int agingDispatches;
+    private long dispatchCount = 0;
+    private int size = 0;
+
+    public MultiLevelProcessQueue(int numLevels, int agingDispatches) {
+        this.levels = new FifoProcessQueue[numLevels];
+        for (int level = 0; level < numLevels; level++) {
+            levels[level] = new FifoProcessQueue();
+        }
+        this.agingDispatches = agingDispatches;
+    }
+
+    public int getNumLevels() {
+        return levels.length;
+    }
+
+    @Override
+    public void enqueue(Process process) {
+        int level = Math.min(Math.max(process.getPriorityLevel(), 0), levels.length - 1);
+        process.setPriorityLevel(level);
+        process.setQueueStamp(dispatchCount);
+        levels[level].enqueue(process);
+        size++;
+        onEnqueued(process);
+    }
+
+    @Override
+    public Process peek() {
+        for (FifoProcessQueue level : levels) {
+            if (!level.isEmpty()) {
+                return level.peek();
+            }
+        }
+        return null;
+    }
+
+    // 꺼낸 뒤에 노화를 적용해, 다음 peek 와 dequeue 가 같은 프로세스를 가리키게 한다
+    @Override
+    public Process dequeue() {
+        for (FifoProcessQueue level : levels) {
+            if (!level.isEmpty()) {
+                Process process = level.dequeue();
+                size--;
+                onRemoved(process);
+                dispatchCount++;
+                age();
+                return process;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(Process process) {
+        int level = process.getPriorityLevel();
+        if (level < 0 || level >= levels.length || !levels[level].remove(process)) {
+            return false;
+        }
+        size--;
+        onRemoved(process);
+        return true;
+    }
+
+    // 가장 낮은 단계의 맨 뒤
+    @Override
+    public Process steal() {
+        for (int level = levels.length - 1; level >= 0; level--) {
+            if (!levels[level].isEmpty()) {
+                Process process = levels[level].steal();
+                size--;
+                onRemoved(process);
+                return process;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // 단계와 진입 시점은 프로세스 상태로 함께 저장된다
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeLong(dispatchCount);
+        for (FifoProcessQueue level : levels) {
+            level.writeState(out, processIndex);
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        dispatchCount = in.readLong();
+        for (FifoProcessQueue level : levels) {
+            level.readState(in, processAt);
+            for (Process process : level) {
+                size++;
+                onEnqueued(process);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Process> iterator() {
+        return new Iterator<>() {
+            private int level = 0;
+            private Iterator<Process> current = levels[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && level < levels.length - 1) {
+                    current = levels[++level].iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public Process next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    private void age() {
+        for (int level = 1; level < levels.length; level++) {
+            FifoProcessQueue queue = levels[level];
+            while (!queue.isEmpty() && dispatchCount - queue.peek().getQueueStamp() >= agingDispatches) {
+                Process process = queue.dequeue();
+                process.setPriorityLevel(level - 1);
+                process.setQueueStamp(dispatchCount);
+                levels[level - 1].enqueue(process);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// pass 가 가장 작은 프로세스 우선 (보폭 스케줄링)
+// 새로 들어온 프로세스는 지금까지 실행된 pass 에서 출발해, 늦게 온 프로세스가 밀린 몫을 한꺼번에 차지하지 않게 한다
+public class PassProcessQueue extends KeyedProcessQueue {
+    private long globalPass = 0;
+
+    @Override
+    public void enqueue(Process process) {
+        if (process.getPass() < globalPass) {
+            process.setPass(globalPass);
+        }
+        super.enqueue(process);
+    }
+
+    @Override
+    public Process dequeue() {
+        Process process = super.dequeue();
+        if (process != null) {
+            globalPass = Math.max(globalPass, process.getPass());
+        }
+        return process;
+    }
+
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeLong(globalPass);
+        super.writeState(out, processIndex);
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        globalPass = in.readLong();
+        super.readState(in, processAt);
+    }
+
+    @Override
+    protected long keyOf(Process process) {
+        return process.getPass();
+    }
+}
@@ -1,21 +1,46 @@
 package os.scheduling.model;
 
+import os.scheduling.enums.ResourceLayout;
+import os.scheduling.resource.ResourceVectorOps;
+import os.scheduling.resource.ResourceVectors;
+
 import java.util.Arrays;
 
 public class Process {
+    private static final ResourceVectorOps VECTORS = ResourceVectors.ops();
+
     private final int id;
-    private final int[] requiredResources;
-    private final int runtime;
-    private int runtimeAccumulated;
-    private int[] assignedResources;
-    private boolean isAssigned = false;
+    private final ProcessTable table;
+    private final int slot;
+    private final int offset;
+    private final int numOfResourceTypes;
+    private final int resourceEntryCount;
+    private final boolean isSparse;
 
+    // 프로세스마다 테이블을 새로 만든다. 여러 프로세스는 한 ProcessTable 의 add 로 만들 것
+    @Deprecated
     public Process(int id, int[] requiredResources, int runtime) {
+        this(id, requiredResources, runtime, 0);
+    }
+
+    // 단독 프로세스: 자신만의 1칸짜리 테이블을 가진다. 여러 프로세스는 한 ProcessTable 의 add 로 만들 것
+    @Deprecated
+    public Process(int id, int[] requiredResources, int runtime, int arrivalTime) {
+        this(new ProcessTable(requiredResources.length, 1).add(id, requiredResources, runtime, arrivalTime));
+    }
+
+    private Process(Process handle) {
+        this(handle.id, handle.table, handle.slot);
+    }
+
+    Process(int id, ProcessTable table, int slot) {
         this.id = id;
-        this.requiredResources = Arrays.copyOf(requiredResources, requiredResources.length);
-        this.runtime = runtime;
-        this.runtimeAccumulated = 0;
-        this.assignedResources = new int[requiredResources.length];
+        this.table = table;
+        this.slot = slot;
+        this.numOfResourceTypes = table.getNumOfResourceTypes();
+        this.offset = table.getResourceOffset(slot);
+        this.resourceEntryCount = table.getResourceEntryCount(slot);
+        this.isSparse = table.getResourceLayout() == ResourceLayout.SPARSE;
     }
 
     // Getters
@@ -23,66 +48,331 @@ public class Process {
         return id;
     }
 
+    ProcessTable getTable() {
+        return table;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    public int getNumOfResourceTypes() {
+        return numOfResourceTypes;
+    }
+
     public int[] getRequiredResources() {
-        return Arrays.copyOf(requiredResources, requiredResources.length);
+        return toDense(table.requiredResources);
     }
 
     public int[] getAssignedResources() {
-        return Arrays.copyOf(assignedResources, assignedResources.length);
+        return toDense(table.assignedResources);
+    }
+
+    // 복사 없이 한 종류씩 읽는 접근자
+    public int getRequiredResource(int type) {
+        int entry = findResourceEntry(type);
+        return entry < 0 ? 0 : table.requiredResources[offset + entry];
+    }
+
+    public int getAssignedResource(int type) {
+        int entry = findResourceEntry(type);
+        return entry < 0 ? 0 : table.assignedResources[offset + entry];
+    }
+
+    public int getRemainingResource(int type) {
+        int entry = findResourceEntry(type);
+        return entry < 0 ? 0 : table.requiredResources[offset + entry] - table.assignedResources[offset + entry];
+    }
+
+    // 자원 항목 단위 접근자: DENSE 면 항목 k 가 종류 k, SPARSE 면 요구량이 있는 종류만 종류 오름차순
+    // 항목만 순회하면 저장 방식과 관계없이 0 이 아닌 값을 모두 볼 수 있다
+    public int getResourceEntryCount() {
+        return resourceEntryCount;
+    }
+
+    public int getResourceType(int entry) {
+        return isSparse ? table.resourceTypes[offset + entry] : entry;
+    }
+
+    public int getRequiredResourceAt(int entry) {
+        return table.requiredResources[offset + entry];
+    }
+
+    public int getAssignedResourceAt(int entry) {
+        return table.assignedResources[offset + entry];
+    }
+
+    public int getRemainingResourceAt(int entry) {
+        return table.requiredResources[offset + entry] - table.assignedResources[offset + entry];
+    }
+
+    // 종류에 해당하는 항목 (없으면 -1)
+    private int findResourceEntry(int type) {
+        if (!isSparse) {
+            return type;
+        }
+        int index = Arrays.binarySearch(table.resourceTypes, offset, offset + resourceEntryCount, type);
+        return index < 0 ? -1 : index - offset;
+    }
+
+    private int[] toDense(int[] amounts) {
+        if (!isSparse) {
+            return Arrays.copyOfRange(amounts, offset, offset + numOfResourceTypes);
+        }
+        int[] dense = new int[numOfResourceTypes];
+        for (int k = 0; k < resourceEntryCount; k++) {
+            dense[table.resourceTypes[offset + k]] = amounts[offset + k];
+        }
+        return dense;
+    }
+
+    public int getRunTime() {
+        return table.runtime[slot];
     }
 
     public int getRemainingTime() {
-        return runtime - runtimeAccumulated;
+        return table.runtime[slot] - table.runtimeAccumulated[slot];
+    }
+
+    public int getArrivalTime() {
+        return table.arrivalTime[slot];
+    }
+
+    // 처음 프로세서에서 실행된 시각 (아직 실행 전이면 -1)
+    public int getFirstRunTime() {
+        return table.firstRunTime[slot];
+    }
+
+    public int getResponseTime() {
+        return getFirstRunTime() - getArrivalTime();
+    }
+
+    public int getCompletionTime() {
+        return table.completionTime[slot];
+    }
+
+    public int getTurnaroundTime() {
+        return getCompletionTime() - getArrivalTime();
     }
 
     public boolean isAssigned() {
-        return isAssigned;
+        return table.isAssigned[slot];
+    }
+
+    // 스케줄링 정책별 상태
+    public int getPriorityLevel() {
+        return table.priorityLevel[slot];
+    }
+
+    public void setPriorityLevel(int priorityLevel) {
+        table.priorityLevel[slot] = priorityLevel;
+    }
+
+    public long getVirtualRuntime() {
+        return table.virtualRuntime[slot];
+    }
+
+    public void setVirtualRuntime(long virtualRuntime) {
+        table.virtualRuntime[slot] = virtualRuntime;
+    }
+
+    public int getDeadline() {
+        return table.deadline[slot];
+    }
+
+    public boolean hasDeadline() {
+        return table.deadline[slot] != ProcessTable.NO_DEADLINE;
+    }
+
+    public int getTickets() {
+        return table.tickets[slot];
+    }
+
+    public void setTickets(int tickets) {
+        if (tickets <= 0) {
+            throw new IllegalArgumentException("Tickets must be positive: " + tickets);
+        }
+        table.tickets[slot] = tickets;
+    }
+
+    public long getPass() {
+        return table.pass[slot];
+    }
+
+    public void setPass(long pass) {
+        table.pass[slot] = pass;
+    }
+
+    long getQueueStamp() {
+        return table.queueStamp[slot];
+    }
+
+    void setQueueStamp(long queueStamp) {
+        table.queueStamp[slot] = queueStamp;
+    }
+
+    int getQueuePosition() {
+        return table.queuePosition[slot];
+    }
+
+    void setQueuePosition(int queuePosition) {
+        table.queuePosition[slot] = queuePosition;
     }
 
     // Process State Management
     public void assignToProcessor() {
-        this.isAssigned = true;
+        table.isAssigned[slot] = true;
     }
 
     public void releaseFromProcessor() {
-        this.isAssigned = false;
+        table.isAssigned[slot] = false;
     }
 
     public void runProcess(int runTimeTick) {
         if (!isFinished()) {
-            runtimeAccumulated += runTimeTick;
+            table.runtimeAccumulated[slot] += runTimeTick;
         }
     }
 
     public boolean isFinished() {
-        return runtimeAccumulated >= runtime;
+        return table.runtimeAccumulated[slot] >= table.runtime[slot];
+    }
+
+    public void markFirstRun(int currentTime) {
+        if (table.firstRunTime[slot] < 0) {
+            table.firstRunTime[slot] = currentTime;
+        }
+    }
+
+    // 입출력 구간
+    public int getIoBurstCount() {
+        return table.ioCount[slot];
+    }
+
+    public int getCompletedIoBursts() {
+        return table.nextIo[slot];
+    }
+
+    // 다음 입출력을 시작하기까지 남은 실행 틱 수 (남은 입출력이 없으면 Integer.MAX_VALUE)
+    public int getTicksUntilIoBurst() {
+        int next = table.nextIo[slot];
+        if (next >= table.ioCount[slot]) {
+            return Integer.MAX_VALUE;
+        }
+        return table.ioCpuOffset[table.ioStart[slot] + next] - table.runtimeAccumulated[slot];
+    }
+
+    // 다음 입출력을 시작할 만큼 실행했으면 프로세서를 내려놓아야 한다
+    public boolean isIoBurstDue() {
+        return getTicksUntilIoBurst() <= 0;
+    }
+
+    // 다음 (진행 중이면 현재) 입출력의 장치와 시간
+    public int getIoDevice() {
+        return table.ioDevice[table.ioStart[slot] + table.nextIo[slot]];
+    }
+
+    public int getIoTime() {
+        return table.ioTime[table.ioStart[slot] + table.nextIo[slot]];
+    }
+
+    // 장치 큐에 들어간 시각부터 입출력이 끝난 시각까지를 입출력 시간으로 센다
+    public void startIoBurst(int startTime) {
+        table.ioSince[slot] = startTime;
+    }
+
+    public void completeIoBurst(int completionTime) {
+        table.ioTicks[slot] += completionTime - table.ioSince[slot];
+        table.nextIo[slot]++;
+    }
+
+    public int getIoTicks() {
+        return table.ioTicks[slot];
+    }
+
+    // 마지막으로 실행된 프로세서 번호 (아직 실행 전이면 -1)
+    public int getLastProcessor() {
+        return table.lastProcessor[slot];
+    }
+
+    void setLastProcessor(int processorId) {
+        table.lastProcessor[slot] = processorId;
+    }
+
+    // 마지막 틱이 끝난 시각 (틱 t 에서 종료되면 t + 1)
+    public void markCompleted(int completionTime) {
+        table.completionTime[slot] = completionTime;
     }
 
     // Resource Management
+    // SPARSE 프로세스는 항목만 다루므로 비용이 요구하는 종류 수에 비례한다 (available 은 종류별 밀집 벡터 그대로)
     public int[] getRemainingResources() {
-        int[] remainingResources = new int[requiredResources.length];
-        for (int i = 0; i < requiredResources.length; i++) {
-            remainingResources[i] = requiredResources[i] - assignedResources[i];
+        int[] remainingResources = new int[numOfResourceTypes];
+        for (int k = 0; k < resourceEntryCount; k++) {
+            remainingResources[getResourceType(k)] = getRemainingResourceAt(k);
         }
         return remainingResources;
     }
 
+    // SPARSE 프로세스에는 요구량이 없는 종류를 할당할 수 없다
     public void assignResources(int[] givenResources) {
-        for (int i = 0; i < givenResources.length; i++) {
-            this.assignedResources[i] += givenResources[i];
+        if (!isSparse) {
+            VECTORS.add(table.assignedResources, offset, givenResources, 0, givenResources.length);
+            return;
+        }
+        for (int type = 0; type < givenResources.length; type++) {
+            if (givenResources[type] == 0) {
+                continue;
+            }
+            int entry = findResourceEntry(type);
+            if (entry < 0) {
+                throw new IllegalArgumentException("Process " + id + " does not require resource type " + type);
+            }
+            table.assignedResources[offset + entry] += givenResources[type];
+        }
+    }
+
+    // 남은 요구량을 available 에서 빼서 할당한다
+    public void assignRemainingResources(int[] available) {
+        allocateResources(available);
+        System.arraycopy(table.requiredResources, offset, table.assignedResources, offset, resourceEntryCount);
+    }
+
+    // 한 종류의 남은 요구량만 통째로 할당한다
+    public void assignRemainingResource(int type, int[] available) {
+        int entry = findResourceEntry(type);
+        if (entry >= 0) {
+            int remaining = getRemainingResourceAt(entry);
+            available[type] -= remaining;
+            table.assignedResources[offset + entry] += remaining;
         }
     }
 
     public int[] releaseResources() {
-        int[] releasedResources = Arrays.copyOf(assignedResources, assignedResources.length);
-        Arrays.fill(assignedResources, 0);
+        int[] releasedResources = getAssignedResources();
+        Arrays.fill(table.assignedResources, offset, offset + resourceEntryCount, 0);
         return releasedResources;
     }
 
+    // 할당된 자원을 available 에 돌려준다
+    public void releaseResourcesTo(int[] available) {
+        if (isSparse) {
+            for (int k = 0; k < resourceEntryCount; k++) {
+                available[table.resourceTypes[offset + k]] += table.assignedResources[offset + k];
+            }
+        } else {
+            VECTORS.add(available, 0, table.assignedResources, offset, numOfResourceTypes);
+        }
+        Arrays.fill(table.assignedResources, offset, offset + resourceEntryCount, 0);
+    }
+
+    // 남은 요구량(required - assigned) <= available 은 required <= available + assigned 와 같다
     public boolean canAllocateResources(int[] available) {
-        int[] remainingResources = getRemainingResources();
-        for (int i = 0; i < remainingResources.length; i++) {
-            if (remainingResources[i] > available[i]) {
+        if (!isSparse) {
+            return VECTORS.isLessOrEqualToSum(table.requiredResources, offset, available, 0, table.assignedResources, offset, numOfResourceTypes);
+        }
+        for (int k = 0; k < resourceEntryCount; k++) {
+            if (getRemainingResourceAt(k) > available[table.resourceTypes[offset + k]]) {
                 return false;
             }
         }
@@ -90,9 +380,13 @@ public class Process {
     }
 
     public void allocateResources(int[] available) {
-        int[] remainingResources = getRemainingResources();
-        for (int i = 0; i < remainingResources.length; i++) {
-            available[i] -= remainingResources[i];
+        if (!isSparse) {
+            VECTORS.subtract(available, 0, table.requiredResources, offset, numOfResourceTypes);
+            VECTORS.add(available, 0, table.assignedResources, offset, numOfResourceTypes);
+            return;
+        }
+        for (int k = 0; k < resourceEntryCount; k++) {
+            available[table.resourceTypes[offset + k]] -= getRemainingResourceAt(k);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,31 @@
 package os.scheduling.model;
 
-public record ProcessDispatch(int processId, int dispatchTime, int runTime, int[] resources) {
+import java.util.Arrays;
+
+// deadline 이 없는 작업은 ProcessTable.NO_DEADLINE, 입출력 없이 한 번에 실행되는 작업은 NO_IO_BURSTS
+// tickets 는 추첨/보폭 스케줄링의 몫 (따로 정하지 않으면 ProcessTable.DEFAULT_TICKETS)
+public record ProcessDispatch(int processId, int dispatchTime, int runTime, int[] resources, int deadline, IoBurst[] ioBursts,
+                              int tickets) {
+    public static final IoBurst[] NO_IO_BURSTS = new IoBurst[0];
+
+    public ProcessDispatch(int processId, int dispatchTime, int runTime, int[] resources) {
+        this(processId, dispatchTime, runTime, resources, ProcessTable.NO_DEADLINE);
+    }
+
+    public ProcessDispatch(int processId, int dispatchTime, int runTime, int[] resources, int deadline) {
+        this(processId, dispatchTime, runTime, resources, deadline, NO_IO_BURSTS);
+    }
+
+    public ProcessDispatch(int processId, int dispatchTime, int runTime, int[] resources, int deadline, IoBurst[] ioBursts) {
+        this(processId, dispatchTime, runTime, resources, deadline, ioBursts, ProcessTable.DEFAULT_TICKETS);
+    }
 
     @Override
     public String toString() {
-        return String.format("[%d, %d, %d, %s]", processId, dispatchTime, runTime, java.util.Arrays.toString(resources));
+        String description = String.format("[%d, %d, %d, %s", processId, dispatchTime, runTime, Arrays.toString(resources));
+        if (tickets != ProcessTable.DEFAULT_TICKETS) {
+            description += ", tickets=" + tickets;
+        }
+        return description + (ioBursts.length == 0 ? "]" : ", io=" + Arrays.toString(ioBursts) + "]");
     }
-}
\ No newline at end of file
+}
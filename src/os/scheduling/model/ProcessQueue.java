@@ -1,41 +1,65 @@
 package os.scheduling.model;
 
-import java.util.LinkedList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
-public class ProcessQueue {
-    private final LinkedList<Process> queue = new LinkedList<>();
+public abstract class ProcessQueue implements Iterable<Process> {
+    // 큐에 있는 동안 프로세스는 실행되지 않으므로 넣고 뺄 때만 갱신하면 된다
+    private int totalRemainingTime = 0;
 
-    LinkedList<Process> getQueue() {
-        return new LinkedList<>(queue); // 방어적 복사
-    }
+    public abstract void enqueue(Process process);
 
-    @Override
-    public String toString() {
-        return queue.stream()
-                .map(process -> Integer.toString(process.getId()))
-                .collect(Collectors.joining(", ", "[", "]"));
-    }
+    // 스케줄링 정책상 다음에 실행될 프로세스
+    public abstract Process peek();
 
-    void enqueue(Process process) {
-        queue.addLast(process);
-    }
+    public abstract Process dequeue();
+
+    public abstract boolean remove(Process process);
+
+    // 다른 프로세서가 가져갈 프로세스를 꺼낸다 (정책상 가장 나중에 실행될 프로세스)
+    public abstract Process steal();
 
-    Process dequeue() {
-        return queue.pollFirst();
+    public abstract int size();
+
+    // 체크포인트: 프로세스는 체크포인트 안의 번호로 기록하고, 읽을 때는 빈 큐에 그대로 되살린다
+    public abstract void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException;
+
+    public abstract void readState(DataInput in, IntFunction<Process> processAt) throws IOException;
+
+    public boolean isEmpty() {
+        return size() == 0;
     }
 
-    int getTotalRemainingTime() {
-        return queue.stream().mapToInt(Process::getRemainingTime).sum();
+    public int getTotalRemainingTime() {
+        return totalRemainingTime;
     }
 
-    boolean isEmpty() {
-        return queue.isEmpty();
+    // 구현 클래스는 프로세스를 넣고 뺄 때 호출해야 한다
+    protected void onEnqueued(Process process) {
+        totalRemainingTime += process.getRemainingTime();
     }
 
-    Process remove(int selectedIdx) {
-        return queue.remove(selectedIdx);
+    protected void onRemoved(Process process) {
+        totalRemainingTime -= process.getRemainingTime();
     }
 
+    List<Process> getQueue() {
+        List<Process> copy = new ArrayList<>(size());
+        forEach(copy::add);
+        return copy;
+    }
 
+    @Override
+    public String toString() {
+        return StreamSupport.stream(spliterator(), false)
+                .map(process -> Integer.toString(process.getId()))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
 }
@@ -0,0 +1,378 @@
+package os.scheduling.model;
+
+import os.scheduling.enums.ResourceLayout;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// 프로세스 상태를 슬롯 인덱스로 접근하는 평탄한 기본형 배열에 보관하는 저장소
+// Process 는 (테이블, 슬롯) 을 가리키는 핸들이며, 종료된 프로세스의 슬롯은 release 후 재사용된다
+public class ProcessTable {
+    public static final int NO_DEADLINE = Integer.MAX_VALUE;
+    public static final int DEFAULT_TICKETS = 100;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int numOfResourceTypes;
+    private final ResourceLayout resourceLayout;
+    private int capacity = 0;
+    private int size = 0;
+
+    int[] runtime;
+    int[] runtimeAccumulated;
+    int[] arrivalTime;
+    int[] firstRunTime;
+    int[] completionTime;
+    // 마지막으로 실행된 프로세서 번호 (캐시 친화도, 아직 실행 전이면 -1)
+    int[] lastProcessor;
+    int[] queuePosition;
+    boolean[] isAssigned;
+    // 스케줄링 정책별 상태 (MLFQ 단계, CFS 가상 실행 시간, EDF 마감 시각, 추첨/보폭 티켓과 pass, 큐 진입 순번)
+    int[] priorityLevel;
+    long[] virtualRuntime;
+    int[] deadline;
+    int[] tickets;
+    long[] pass;
+    long[] queueStamp;
+    // 자원 열. DENSE: slot * numOfResourceTypes + type
+    // SPARSE: 슬롯마다 resourceStart 부터 resourceCount 개 항목이 (resourceTypes, requiredResources, assignedResources) 로 종류 오름차순
+    int[] requiredResources;
+    int[] assignedResources;
+    int[] resourceTypes;
+    int[] resourceStart;
+    int[] resourceCount;
+    // 슬롯을 재사용할 때 자리가 모자라면 풀 끝에 2의 거듭제곱 크기로 새로 잡는다
+    private int[] resourceCapacity;
+    private int resourcePoolSize = 0;
+    // 입출력 구간. 슬롯마다 ioStart 부터 ioCount 개 항목이 (ioCpuOffset, ioDevice, ioTime) 으로 실행 순서대로 놓인다
+    // ioCpuOffset 은 입출력을 시작하는 누적 실행 시간, nextIo 는 아직 끝나지 않은 첫 입출력, ioTicks 는 입출력으로 보낸 틱 수 (장치 대기 포함)
+    int[] ioStart;
+    int[] ioCount;
+    int[] nextIo;
+    int[] ioSince;
+    int[] ioTicks;
+    int[] ioCpuOffset = new int[INITIAL_CAPACITY];
+    int[] ioDevice = new int[INITIAL_CAPACITY];
+    int[] ioTime = new int[INITIAL_CAPACITY];
+    private int[] ioCapacity;
+    private int ioPoolSize = 0;
+
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount = 0;
+
+    public ProcessTable(int numOfResourceTypes) {
+        this(numOfResourceTypes, INITIAL_CAPACITY);
+    }
+
+    public ProcessTable(int numOfResourceTypes, ResourceLayout resourceLayout) {
+        this(numOfResourceTypes, INITIAL_CAPACITY, resourceLayout);
+    }
+
+    public ProcessTable(int numOfResourceTypes, int initialCapacity) {
+        this(numOfResourceTypes, initialCapacity, ResourceLayout.DENSE);
+    }
+
+    public ProcessTable(int numOfResourceTypes, int initialCapacity, ResourceLayout resourceLayout) {
+        this.numOfResourceTypes = numOfResourceTypes;
+        this.resourceLayout = resourceLayout;
+        if (resourceLayout == ResourceLayout.SPARSE) {
+            resourceTypes = new int[INITIAL_CAPACITY];
+            requiredResources = new int[INITIAL_CAPACITY];
+            assignedResources = new int[INITIAL_CAPACITY];
+        }
+        grow(Math.max(1, initialCapacity));
+    }
+
+    public Process add(int id, int[] requiredResources, int runtime, int arrivalTime) {
+        return add(id, requiredResources, runtime, arrivalTime, NO_DEADLINE);
+    }
+
+    public Process add(int id, int[] requiredResources, int runtime, int arrivalTime, int deadline) {
+        return add(id, requiredResources, runtime, arrivalTime, deadline, ProcessDispatch.NO_IO_BURSTS);
+    }
+
+    public Process add(int id, int[] requiredResources, int runtime, int arrivalTime, int deadline, IoBurst[] ioBursts) {
+        return add(id, requiredResources, runtime, arrivalTime, deadline, ioBursts, DEFAULT_TICKETS);
+    }
+
+    public Process add(int id, int[] requiredResources, int runtime, int arrivalTime, int deadline, IoBurst[] ioBursts, int tickets) {
+        if (requiredResources.length != numOfResourceTypes) {
+            throw new IllegalArgumentException("Expected " + numOfResourceTypes + " resource types but got " + requiredResources.length);
+        }
+        if (tickets <= 0) {
+            throw new IllegalArgumentException("Process " + id + " has non-positive tickets: " + tickets);
+        }
+        checkIoBursts(id, runtime, ioBursts);
+        int slot = allocateSlot();
+        this.runtime[slot] = runtime;
+        this.runtimeAccumulated[slot] = 0;
+        this.arrivalTime[slot] = arrivalTime;
+        this.firstRunTime[slot] = -1;
+        this.completionTime[slot] = -1;
+        this.lastProcessor[slot] = -1;
+        this.queuePosition[slot] = -1;
+        this.isAssigned[slot] = false;
+        this.priorityLevel[slot] = 0;
+        this.virtualRuntime[slot] = 0;
+        this.deadline[slot] = deadline;
+        this.tickets[slot] = tickets;
+        this.pass[slot] = 0;
+        this.queueStamp[slot] = 0;
+        int ioEntry = reserveIoEntries(slot, ioBursts.length);
+        int cpuOffset = 0;
+        for (IoBurst burst : ioBursts) {
+            cpuOffset += burst.cpuTime();
+            ioCpuOffset[ioEntry] = cpuOffset;
+            ioDevice[ioEntry] = burst.device();
+            ioTime[ioEntry++] = burst.ioTime();
+        }
+        this.nextIo[slot] = 0;
+        this.ioSince[slot] = 0;
+        this.ioTicks[slot] = 0;
+        if (resourceLayout == ResourceLayout.DENSE) {
+            int offset = slot * numOfResourceTypes;
+            System.arraycopy(requiredResources, 0, this.requiredResources, offset, numOfResourceTypes);
+            Arrays.fill(this.assignedResources, offset, offset + numOfResourceTypes, 0);
+        } else {
+            int count = 0;
+            for (int amount : requiredResources) {
+                if (amount != 0) {
+                    count++;
+                }
+            }
+            int entry = reserveResourceEntries(slot, count);
+            for (int type = 0; type < numOfResourceTypes; type++) {
+                if (requiredResources[type] != 0) {
+                    resourceTypes[entry] = type;
+                    this.requiredResources[entry] = requiredResources[type];
+                    this.assignedResources[entry++] = 0;
+                }
+            }
+        }
+        return new Process(id, this, slot);
+    }
+
+    // 입출력 뒤에는 실행할 CPU 구간이 남아 있어야 한다
+    private static void checkIoBursts(int id, int runtime, IoBurst[] ioBursts) {
+        long cpuOffset = 0;
+        for (IoBurst burst : ioBursts) {
+            if (burst.cpuTime() <= 0 || burst.ioTime() <= 0 || burst.device() < 0) {
+                throw new IllegalArgumentException("Invalid I/O burst " + burst + " of process " + id);
+            }
+            cpuOffset += burst.cpuTime();
+        }
+        if (ioBursts.length > 0 && cpuOffset >= runtime) {
+            throw new IllegalArgumentException("I/O bursts of process " + id + " need more than its run time " + runtime);
+        }
+    }
+
+    // 슬롯을 반납한다. 이후 해당 핸들은 더 이상 사용하면 안 된다
+    public void release(Process process) {
+        if (!owns(process)) {
+            throw new IllegalArgumentException("Process " + process.getId() + " does not belong to this table");
+        }
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = process.getSlot();
+    }
+
+    // 체크포인트: 프로세스 한 개의 모든 열을 기록한다 (큐 위치는 큐가 되살릴 때 다시 정한다)
+    // 자원은 저장 방식과 관계없이 요구량이나 할당량이 0 이 아닌 종류만 (종류, 요구량, 할당량) 으로 기록한다
+    public void writeProcess(DataOutput out, Process process) throws IOException {
+        ProcessTable source = process.getTable();
+        int slot = process.getSlot();
+        out.writeInt(process.getId());
+        out.writeInt(source.runtime[slot]);
+        out.writeInt(source.runtimeAccumulated[slot]);
+        out.writeInt(source.arrivalTime[slot]);
+        out.writeInt(source.firstRunTime[slot]);
+        out.writeInt(source.completionTime[slot]);
+        out.writeInt(source.lastProcessor[slot]);
+        out.writeBoolean(source.isAssigned[slot]);
+        out.writeInt(source.priorityLevel[slot]);
+        out.writeLong(source.virtualRuntime[slot]);
+        out.writeInt(source.deadline[slot]);
+        out.writeInt(source.tickets[slot]);
+        out.writeLong(source.pass[slot]);
+        out.writeLong(source.queueStamp[slot]);
+        int entryCount = 0;
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            if (process.getRequiredResourceAt(k) != 0 || process.getAssignedResourceAt(k) != 0) {
+                entryCount++;
+            }
+        }
+        out.writeInt(entryCount);
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            if (process.getRequiredResourceAt(k) != 0 || process.getAssignedResourceAt(k) != 0) {
+                out.writeInt(process.getResourceType(k));
+                out.writeInt(process.getRequiredResourceAt(k));
+                out.writeInt(process.getAssignedResourceAt(k));
+            }
+        }
+        int ioEntry = source.ioStart[slot];
+        out.writeInt(source.ioCount[slot]);
+        for (int k = 0; k < source.ioCount[slot]; k++) {
+            out.writeInt(source.ioCpuOffset[ioEntry + k]);
+            out.writeInt(source.ioDevice[ioEntry + k]);
+            out.writeInt(source.ioTime[ioEntry + k]);
+        }
+        out.writeInt(source.nextIo[slot]);
+        out.writeInt(source.ioSince[slot]);
+        out.writeInt(source.ioTicks[slot]);
+    }
+
+    public Process readProcess(DataInput in) throws IOException {
+        int id = in.readInt();
+        int slot = allocateSlot();
+        runtime[slot] = in.readInt();
+        runtimeAccumulated[slot] = in.readInt();
+        arrivalTime[slot] = in.readInt();
+        firstRunTime[slot] = in.readInt();
+        completionTime[slot] = in.readInt();
+        lastProcessor[slot] = in.readInt();
+        queuePosition[slot] = -1;
+        isAssigned[slot] = in.readBoolean();
+        priorityLevel[slot] = in.readInt();
+        virtualRuntime[slot] = in.readLong();
+        deadline[slot] = in.readInt();
+        tickets[slot] = in.readInt();
+        pass[slot] = in.readLong();
+        queueStamp[slot] = in.readLong();
+        int entryCount = in.readInt();
+        int entry = resourceLayout == ResourceLayout.DENSE ? slot * numOfResourceTypes : reserveResourceEntries(slot, entryCount);
+        if (resourceLayout == ResourceLayout.DENSE) {
+            Arrays.fill(requiredResources, entry, entry + numOfResourceTypes, 0);
+            Arrays.fill(assignedResources, entry, entry + numOfResourceTypes, 0);
+        }
+        for (int k = 0; k < entryCount; k++) {
+            int type = in.readInt();
+            int index = resourceLayout == ResourceLayout.DENSE ? entry + type : entry + k;
+            if (resourceLayout == ResourceLayout.SPARSE) {
+                resourceTypes[index] = type;
+            }
+            requiredResources[index] = in.readInt();
+            assignedResources[index] = in.readInt();
+        }
+        int ioEntry = reserveIoEntries(slot, in.readInt());
+        for (int k = 0; k < ioCount[slot]; k++) {
+            ioCpuOffset[ioEntry + k] = in.readInt();
+            ioDevice[ioEntry + k] = in.readInt();
+            ioTime[ioEntry + k] = in.readInt();
+        }
+        nextIo[slot] = in.readInt();
+        ioSince[slot] = in.readInt();
+        ioTicks[slot] = in.readInt();
+        return new Process(id, this, slot);
+    }
+
+    public boolean owns(Process process) {
+        return process.getTable() == this;
+    }
+
+    public int getNumOfResourceTypes() {
+        return numOfResourceTypes;
+    }
+
+    public ResourceLayout getResourceLayout() {
+        return resourceLayout;
+    }
+
+    // 슬롯의 첫 자원 항목 위치와 항목 수
+    int getResourceOffset(int slot) {
+        return resourceLayout == ResourceLayout.DENSE ? slot * numOfResourceTypes : resourceStart[slot];
+    }
+
+    int getResourceEntryCount(int slot) {
+        return resourceLayout == ResourceLayout.DENSE ? numOfResourceTypes : resourceCount[slot];
+    }
+
+    public int getLiveProcessCount() {
+        return size - freeSlotCount;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (size == capacity) {
+            grow(capacity * 2);
+        }
+        return size++;
+    }
+
+    private int reserveResourceEntries(int slot, int count) {
+        if (count > resourceCapacity[slot]) {
+            int entryCapacity = Math.max(1, Integer.highestOneBit(count - 1) << 1);
+            if (resourcePoolSize + entryCapacity > resourceTypes.length) {
+                int poolCapacity = Math.max(resourcePoolSize + entryCapacity, resourceTypes.length * 2);
+                resourceTypes = Arrays.copyOf(resourceTypes, poolCapacity);
+                requiredResources = Arrays.copyOf(requiredResources, poolCapacity);
+                assignedResources = Arrays.copyOf(assignedResources, poolCapacity);
+            }
+            resourceStart[slot] = resourcePoolSize;
+            resourceCapacity[slot] = entryCapacity;
+            resourcePoolSize += entryCapacity;
+        }
+        resourceCount[slot] = count;
+        return resourceStart[slot];
+    }
+
+    private int reserveIoEntries(int slot, int count) {
+        if (count > ioCapacity[slot]) {
+            int entryCapacity = Math.max(1, Integer.highestOneBit(count - 1) << 1);
+            if (ioPoolSize + entryCapacity > ioCpuOffset.length) {
+                int poolCapacity = Math.max(ioPoolSize + entryCapacity, ioCpuOffset.length * 2);
+                ioCpuOffset = Arrays.copyOf(ioCpuOffset, poolCapacity);
+                ioDevice = Arrays.copyOf(ioDevice, poolCapacity);
+                ioTime = Arrays.copyOf(ioTime, poolCapacity);
+            }
+            ioStart[slot] = ioPoolSize;
+            ioCapacity[slot] = entryCapacity;
+            ioPoolSize += entryCapacity;
+        }
+        ioCount[slot] = count;
+        return ioStart[slot];
+    }
+
+    private void grow(int newCapacity) {
+        runtime = copyOf(runtime, newCapacity);
+        runtimeAccumulated = copyOf(runtimeAccumulated, newCapacity);
+        arrivalTime = copyOf(arrivalTime, newCapacity);
+        firstRunTime = copyOf(firstRunTime, newCapacity);
+        completionTime = copyOf(completionTime, newCapacity);
+        lastProcessor = copyOf(lastProcessor, newCapacity);
+        queuePosition = copyOf(queuePosition, newCapacity);
+        isAssigned = isAssigned == null ? new boolean[newCapacity] : Arrays.copyOf(isAssigned, newCapacity);
+        priorityLevel = copyOf(priorityLevel, newCapacity);
+        virtualRuntime = copyOf(virtualRuntime, newCapacity);
+        deadline = copyOf(deadline, newCapacity);
+        tickets = copyOf(tickets, newCapacity);
+        pass = copyOf(pass, newCapacity);
+        queueStamp = copyOf(queueStamp, newCapacity);
+        ioStart = copyOf(ioStart, newCapacity);
+        ioCount = copyOf(ioCount, newCapacity);
+        nextIo = copyOf(nextIo, newCapacity);
+        ioSince = copyOf(ioSince, newCapacity);
+        ioTicks = copyOf(ioTicks, newCapacity);
+        ioCapacity = copyOf(ioCapacity, newCapacity);
+        if (resourceLayout == ResourceLayout.DENSE) {
+            requiredResources = copyOf(requiredResources, newCapacity * numOfResourceTypes);
+            assignedResources = copyOf(assignedResources, newCapacity * numOfResourceTypes);
+        } else {
+            resourceStart = copyOf(resourceStart, newCapacity);
+            resourceCount = copyOf(resourceCount, newCapacity);
+            resourceCapacity = copyOf(resourceCapacity, newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private static int[] copyOf(int[] array, int length) {
+        return array == null ? new int[length] : Arrays.copyOf(array, length);
+    }
+
+    private static long[] copyOf(long[] array, int length) {
+        return array == null ? new long[length] : Arrays.copyOf(array, length);
+    }
+}
@@ -2,20 +2,60 @@ package os.scheduling.model;
 
 import os.scheduling.service.TaskScheduler;
 import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.strategy.SchedulingStrategy;
 
-import java.util.LinkedList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 public class Processor {
-    private final SchedulingAlgorithm schedulingAlgorithm;
-    private final ProcessQueue readyQueue = new ProcessQueue();
+    public static final int NO_EVENT = Integer.MAX_VALUE;
+    // 친화도를 고려해 훔칠 때 준비 큐 앞쪽에서 살펴볼 프로세스 수 (큐 길이와 무관하게 비용을 묶어 둔다)
+    private static final int AFFINITY_SCAN_WINDOW = 8;
+
+    private final int processorId;
+    private final SchedulingStrategy schedulingStrategy;
+    private final ProcessQueue readyQueue;
     private final int timeQuantum;
+    // 프로세스를 올릴 때 치르는 비용 (틱). 다른 프로세서에서 실행되던 프로세스는 캐시가 식어 있어 이전 비용을 더 치른다
+    private final int contextSwitchCost;
+    private final int migrationCost;
     private Process currentProcess = null;
     private int currentTickDuration = 0;
+    // 현재 프로세스를 올리고 아직 치르지 않은 비용. 이 동안 프로세스는 진행하지 않고 실행 틱도 늘지 않는다
+    private int pendingSwitchTicks = 0;
+    private int pendingMigrationTicks = 0;
+
+    // 통계 카운터
+    private long busyTicks = 0;
+    private long idleTicks = 0;
+    private long contextSwitches = 0;
+    private long preemptions = 0;
+    private long stolenProcesses = 0;
+    private long lostProcesses = 0;
+    private long switchTicks = 0;
+    private long migrationTicks = 0;
+    private long migrations = 0;
 
     public Processor(int timeQuantum, SchedulingAlgorithm schedulingAlgorithm) {
-        this.schedulingAlgorithm = schedulingAlgorithm;
+        this(timeQuantum, schedulingAlgorithm, 0L);
+    }
+
+    public Processor(int timeQuantum, SchedulingAlgorithm schedulingAlgorithm, long seed) {
+        this(0, timeQuantum, schedulingAlgorithm, seed, 0, 0);
+    }
+
+    public Processor(int processorId, int timeQuantum, SchedulingAlgorithm schedulingAlgorithm, long seed,
+                     int contextSwitchCost, int migrationCost) {
+        this.processorId = processorId;
+        this.schedulingStrategy = TaskScheduler.getStrategy(schedulingAlgorithm);
+        this.readyQueue = schedulingStrategy.createReadyQueue(seed);
         this.timeQuantum = timeQuantum;
+        this.contextSwitchCost = contextSwitchCost;
+        this.migrationCost = migrationCost;
     }
 
     @Override
@@ -32,7 +72,7 @@ public class Processor {
         return currentProcess == null;
     }
 
-    // 현재 작업량 계산 메서드
+    // 현재 작업량 계산 메서드 (준비 큐 합계는 큐가 유지하므로 O(1))
     public int calculateTotalWorkload() {
         int totalWorkload = currentProcess != null ? currentProcess.getRemainingTime() : 0;
         totalWorkload += readyQueue.getTotalRemainingTime();
@@ -48,57 +88,243 @@ public class Processor {
         this.currentProcess = currentProcess;
     }
 
+    public long getBusyTicks() {
+        return busyTicks;
+    }
+
+    public long getIdleTicks() {
+        return idleTicks;
+    }
+
+    // 프로세서에 새 프로세스를 올린 횟수
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    // 실행 중이던 프로세스를 준비 큐로 되돌린 횟수
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    // 다른 프로세서의 큐에서 가져온 프로세스 수
+    public long getStolenProcesses() {
+        return stolenProcesses;
+    }
+
+    // 다른 프로세서에 빼앗긴 프로세스 수
+    public long getLostProcesses() {
+        return lostProcesses;
+    }
+
+    // 프로세스를 올리느라 실행하지 못한 틱 수 (문맥 교환 비용 / 이전으로 식은 캐시 비용)
+    public long getSwitchTicks() {
+        return switchTicks;
+    }
+
+    public long getMigrationTicks() {
+        return migrationTicks;
+    }
+
+    // 다른 프로세서에서 실행되던 프로세스를 올린 횟수
+    public long getMigrations() {
+        return migrations;
+    }
+
     // 준비 큐 관리 메서드
     public List<Process> getReadyQueue() {
         return readyQueue.getQueue();
     }
 
+    public int getReadyQueueSize() {
+        return readyQueue.size();
+    }
+
+    public boolean hasReadyProcess() {
+        return !readyQueue.isEmpty();
+    }
+
     public void addProcessToReadyQueue(Process process) {
         readyQueue.enqueue(process);
     }
 
+    // 작업 훔치기: 비어 있는 프로세서는 이번 틱에 스스로 꺼낼 프로세스 하나를 남겨 둔다
+    public int getStealableProcessCount() {
+        return Math.max(0, readyQueue.size() - (currentProcess == null ? 1 : 0));
+    }
+
+    public Process stealProcess() {
+        return stealProcess(-1);
+    }
+
+    // 캐시 친화도를 고려한 작업 훔치기: 큐 앞쪽 AFFINITY_SCAN_WINDOW 개 중 가져가는 프로세서에서 마지막으로 실행된 프로세스,
+    // 아직 실행되지 않은 프로세스 순으로 고르고, 없으면 정책대로 꺼낸다 (thief 가 음수면 바로 정책대로)
+    public Process stealProcess(int thief) {
+        Process process = thief < 0 ? null : findColdProcess(thief);
+        if (process != null) {
+            readyQueue.remove(process);
+        } else {
+            process = readyQueue.steal();
+        }
+        if (process != null) {
+            lostProcesses++;
+        }
+        return process;
+    }
+
+    private Process findColdProcess(int thief) {
+        Process neverRun = null;
+        int scanned = 0;
+        for (Process process : readyQueue) {
+            if (scanned++ == AFFINITY_SCAN_WINDOW) {
+                break;
+            }
+            int lastProcessor = process.getLastProcessor();
+            if (lastProcessor == thief) {
+                return process;
+            }
+            if (lastProcessor < 0 && neverRun == null) {
+                neverRun = process;
+            }
+        }
+        return neverRun;
+    }
+
+    public void receiveStolenProcess(Process process) {
+        readyQueue.enqueue(process);
+        stolenProcesses++;
+    }
+
     private void resetCurrentTick() {
         currentTickDuration = 0;
     }
 
     // 프로세스 할당 및 실행 메서드
-    public void checkAndAssignProcess() {
-        int selectedIdx = selectProcessIdxToAssign();
-        if (selectedIdx != -1) {
+    public void checkAndAssignProcess(int currentTime) {
+        if (schedulingStrategy.shouldSwitchProcess(readyQueue, currentProcess, currentTickDuration, timeQuantum)) {
+            Process selectedProcess = readyQueue.dequeue();
             if (currentProcess != null) {
+                schedulingStrategy.onPreempted(currentProcess, currentTickDuration, timeQuantum);
                 readyQueue.enqueue(currentProcess);
+                preemptions++;
             }
-            currentProcess = readyQueue.remove(selectedIdx);
+            currentProcess = selectedProcess;
+            currentProcess.markFirstRun(currentTime);
+            contextSwitches++;
+            chargeSwitch(currentProcess);
             resetCurrentTick();
         }
     }
 
+    // 치르지 못한 이전 프로세스의 비용은 버린다
+    private void chargeSwitch(Process process) {
+        pendingSwitchTicks = contextSwitchCost;
+        pendingMigrationTicks = 0;
+        int lastProcessor = process.getLastProcessor();
+        if (lastProcessor >= 0 && lastProcessor != processorId) {
+            migrations++;
+            pendingMigrationTicks = migrationCost;
+        }
+        process.setLastProcessor(processorId);
+    }
+
     public void runProcess() {
+        advance(1);
+    }
+
+    // 전환 비용을 먼저 치르고 남은 틱만큼 프로세스를 실행한다
+    public void advance(int ticks) {
         if (currentProcess != null) {
-            currentProcess.runProcess(1);
-            currentTickDuration++;
+            int switching = Math.min(ticks, pendingSwitchTicks);
+            int migrating = Math.min(ticks - switching, pendingMigrationTicks);
+            pendingSwitchTicks -= switching;
+            pendingMigrationTicks -= migrating;
+            switchTicks += switching;
+            migrationTicks += migrating;
+            int running = ticks - switching - migrating;
+            if (running > 0) {
+                currentProcess.runProcess(running);
+                currentTickDuration += running;
+                busyTicks += running;
+            }
+        } else {
+            idleTicks += ticks;
+        }
+    }
+
+    // 다음 이벤트(프로세스 배정, 종료, 선점)까지 남은 틱 수
+    public int ticksUntilNextEvent() {
+        if (currentProcess == null) {
+            return readyQueue.isEmpty() ? NO_EVENT : 0;
         }
+        int pendingTicks = pendingSwitchTicks + pendingMigrationTicks;
+        // 종료하거나 입출력을 시작하는 틱까지
+        int ticksUntilFinish = pendingTicks + Math.min(currentProcess.getRemainingTime(), currentProcess.getTicksUntilIoBurst()) - 1;
+        int ticksUntilPreemption = schedulingStrategy.ticksUntilPreemption(readyQueue, currentProcess, currentTickDuration, timeQuantum);
+        // 선점 시점은 실행 틱으로 정해지므로 비용을 치르는 동안만큼 늦어진다 (0 이면 다음 틱에 바로 확인)
+        if (ticksUntilPreemption > 0) {
+            ticksUntilPreemption = (int) Math.min(NO_EVENT, (long) ticksUntilPreemption + pendingTicks);
+        }
+        return Math.min(ticksUntilFinish, ticksUntilPreemption);
     }
 
     // 프로세스 정리 메서드
-    public int[] cleanupProcess() {
+    // 종료된 프로세스를 내려놓고 돌려준다. 자원 반납은 호출 측에서 프로세서 순서대로 처리한다
+    public Process cleanupProcess(int currentTime) {
         if (currentProcess != null && currentProcess.isFinished()) {
-            int[] resourcesToReturn = currentProcess.releaseResources();
+            Process finishedProcess = currentProcess;
+            finishedProcess.markCompleted(currentTime + 1);
             currentProcess = null;
             resetCurrentTick();
-            return resourcesToReturn;
+            return finishedProcess;
         }
-        return new int[0];
+        return null;
     }
 
-    // 프로세스 선택 메서드
-    private int selectProcessIdxToAssign() {
-        return TaskScheduler.getProcessIdxFromQueue(
-                currentProcess,
-                new LinkedList<>(readyQueue.getQueue()),
-                schedulingAlgorithm,
-                currentTickDuration,
-                timeQuantum
-        );
+    // 입출력을 시작할 프로세스를 내려놓고 돌려준다
+    public Process releaseBlockedProcess() {
+        if (currentProcess != null && currentProcess.isIoBurstDue()) {
+            Process blockedProcess = currentProcess;
+            schedulingStrategy.onBlocked(blockedProcess, currentTickDuration, timeQuantum);
+            currentProcess = null;
+            resetCurrentTick();
+            return blockedProcess;
+        }
+        return null;
+    }
+
+    // 체크포인트: 현재 프로세스, 실행 틱 수, 남은 전환 비용, 통계 카운터, 준비 큐
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeInt(currentProcess == null ? -1 : processIndex.applyAsInt(currentProcess));
+        out.writeInt(currentTickDuration);
+        out.writeInt(pendingSwitchTicks);
+        out.writeInt(pendingMigrationTicks);
+        out.writeLong(busyTicks);
+        out.writeLong(idleTicks);
+        out.writeLong(contextSwitches);
+        out.writeLong(preemptions);
+        out.writeLong(stolenProcesses);
+        out.writeLong(lostProcesses);
+        out.writeLong(switchTicks);
+        out.writeLong(migrationTicks);
+        out.writeLong(migrations);
+        readyQueue.writeState(out, processIndex);
+    }
+
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        int current = in.readInt();
+        currentProcess = current < 0 ? null : processAt.apply(current);
+        currentTickDuration = in.readInt();
+        pendingSwitchTicks = in.readInt();
+        pendingMigrationTicks = in.readInt();
+        busyTicks = in.readLong();
+        idleTicks = in.readLong();
+        contextSwitches = in.readLong();
+        preemptions = in.readLong();
+        stolenProcesses = in.readLong();
+        lostProcesses = in.readLong();
+        switchTicks = in.readLong();
+        migrationTicks = in.readLong();
+        migrations = in.readLong();
+        readyQueue.readState(in, processAt);
     }
 }
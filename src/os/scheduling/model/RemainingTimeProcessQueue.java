@@ -0,0 +1,10 @@
+package os.scheduling.model;
+
+// 남은 실행 시간 기준 (SJF, SRJF)
+public class RemainingTimeProcessQueue extends KeyedProcessQueue {
+
+    @Override
+    protected long keyOf(Process process) {
+        return process.getRemainingTime();
+    }
+}
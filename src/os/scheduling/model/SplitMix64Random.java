@@ -0,0 +1,67 @@
+package os.scheduling.model;
+
+// SplittableRandom(seed) 와 같은 수열을 내는 SplitMix64 생성기
+// 상태가 long 하나뿐이라 체크포인트에 저장하고 그대로 되살릴 수 있다
+public final class SplitMix64Random {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SplitMix64Random(long seed) {
+        this.state = seed;
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    public int nextInt() {
+        long z = nextSeed();
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    public long nextLong() {
+        long z = nextSeed();
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // [0, bound) 균등 분포 (기각 샘플링)
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+        }
+        return r;
+    }
+
+    public long nextLong(long bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        long r = nextLong();
+        long m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (long u = r >>> 1; u + m - (r = u % bound) < 0; u = nextLong() >>> 1) {
+        }
+        return r;
+    }
+
+    private long nextSeed() {
+        return state += GOLDEN_GAMMA;
+    }
+}
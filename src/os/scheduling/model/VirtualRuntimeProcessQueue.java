@@ -0,0 +1,98 @@
+package os.scheduling.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// 가상 실행 시간 기준 균형 트리 (CFS). 가장 적게 실행된 프로세스가 먼저 실행된다
+// 새로 들어온 프로세스는 큐의 최소 가상 실행 시간에서 출발해, 오래 쉬었던 프로세스가 CPU 를 독점하지 않게 한다
+public class VirtualRuntimeProcessQueue extends ProcessQueue {
+    private final TreeSet<Process> tree = new TreeSet<>(Comparator
+            .comparingLong(Process::getVirtualRuntime)
+            .thenComparingLong(Process::getQueueStamp));
+    private long minVirtualRuntime = 0;
+    private long nextSequence = 0;
+
+    @Override
+    public void enqueue(Process process) {
+        if (process.getVirtualRuntime() < minVirtualRuntime) {
+            process.setVirtualRuntime(minVirtualRuntime);
+        }
+        process.setQueueStamp(nextSequence++);
+        tree.add(process);
+        onEnqueued(process);
+    }
+
+    @Override
+    public Process peek() {
+        return tree.isEmpty() ? null : tree.first();
+    }
+
+    @Override
+    public Process dequeue() {
+        Process process = tree.pollFirst();
+        if (process != null) {
+            minVirtualRuntime = Math.max(minVirtualRuntime, process.getVirtualRuntime());
+            onRemoved(process);
+        }
+        return process;
+    }
+
+    // 트리에 있는 동안 가상 실행 시간과 순번은 바뀌지 않으므로 키로 바로 찾을 수 있다
+    @Override
+    public boolean remove(Process process) {
+        if (!tree.remove(process)) {
+            return false;
+        }
+        onRemoved(process);
+        return true;
+    }
+
+    // 가장 많이 실행된 프로세스
+    @Override
+    public Process steal() {
+        Process process = tree.pollLast();
+        if (process != null) {
+            onRemoved(process);
+        }
+        return process;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    // 정렬 키(가상 실행 시간, 순번)는 프로세스 상태로 함께 저장된다
+    @Override
+    public void writeState(DataOutput out, ToIntFunction<Process> processIndex) throws IOException {
+        out.writeLong(minVirtualRuntime);
+        out.writeLong(nextSequence);
+        out.writeInt(tree.size());
+        for (Process process : tree) {
+            out.writeInt(processIndex.applyAsInt(process));
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, IntFunction<Process> processAt) throws IOException {
+        minVirtualRuntime = in.readLong();
+        nextSequence = in.readLong();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            Process process = processAt.apply(in.readInt());
+            tree.add(process);
+            onEnqueued(process);
+        }
+    }
+
+    @Override
+    public Iterator<Process> iterator() {
+        return tree.iterator();
+    }
+}
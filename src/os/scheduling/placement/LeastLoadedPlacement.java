@@ -0,0 +1,98 @@
+package os.scheduling.placement;
+
+import os.scheduling.model.Processor;
+
+import java.util.List;
+
+// 작업량(남은 실행 시간 합)이 가장 적은 프로세서. 같으면 번호가 작은 프로세서
+// 프로세서 번호를 (작업량, 번호) 기준 인덱스 최소 힙에 두고, 작업량이 바뀐 프로세서만 제자리로 옮긴다
+public class LeastLoadedPlacement implements PlacementStrategy {
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] workloads;
+
+    public LeastLoadedPlacement(int numProcessors) {
+        this.heap = new int[numProcessors];
+        this.positions = new int[numProcessors];
+        this.workloads = new int[numProcessors];
+        for (int i = 0; i < numProcessors; i++) {
+            heap[i] = i;
+            positions[i] = i;
+        }
+    }
+
+    @Override
+    public void beginPlacement(List<Processor> processors) {
+        for (int i = 0; i < heap.length; i++) {
+            updateWorkload(i, processors.get(i).calculateTotalWorkload());
+        }
+    }
+
+    @Override
+    public int selectProcessor(List<Processor> processors) {
+        return heap[0];
+    }
+
+    @Override
+    public void placed(List<Processor> processors, int processorIndex) {
+        updateWorkload(processorIndex, processors.get(processorIndex).calculateTotalWorkload());
+    }
+
+    private void updateWorkload(int processorIndex, int workload) {
+        int previous = workloads[processorIndex];
+        if (previous == workload) {
+            return;
+        }
+        workloads[processorIndex] = workload;
+        if (workload < previous) {
+            siftUp(positions[processorIndex]);
+        } else {
+            siftDown(positions[processorIndex]);
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isLess(heap[position], heap[parent])) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heap.length && isLess(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < heap.length && isLess(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private boolean isLess(int a, int b) {
+        if (workloads[a] != workloads[b]) {
+            return workloads[a] < workloads[b];
+        }
+        return a < b;
+    }
+
+    private void swap(int a, int b) {
+        int processor = heap[a];
+        heap[a] = heap[b];
+        heap[b] = processor;
+        positions[heap[a]] = a;
+        positions[heap[b]] = b;
+    }
+}
@@ -0,0 +1,29 @@
+package os.scheduling.placement;
+
+import os.scheduling.model.Processor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+// 자원을 할당받은 프로세스를 어느 프로세서의 준비 큐에 넣을지 고른다 (시뮬레이션마다 새 인스턴스)
+public interface PlacementStrategy {
+
+    // 한 틱에 할당된 프로세스들을 배치하기 전에 한 번 호출된다 (그 사이 프로세서 작업량이 바뀌었을 수 있음)
+    default void beginPlacement(List<Processor> processors) {
+    }
+
+    int selectProcessor(List<Processor> processors);
+
+    // 선택한 프로세서의 준비 큐에 프로세스를 넣은 뒤 호출된다
+    default void placed(List<Processor> processors, int processorIndex) {
+    }
+
+    // 체크포인트: 프로세서 작업량에서 다시 계산할 수 없는 상태만 기록한다
+    default void writeState(DataOutput out) throws IOException {
+    }
+
+    default void readState(DataInput in) throws IOException {
+    }
+}
@@ -0,0 +1,47 @@
+package os.scheduling.placement;
+
+import os.scheduling.model.Processor;
+import os.scheduling.model.SplitMix64Random;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+// 서로 다른 프로세서 두 개를 무작위로 골라 작업량이 적은 쪽 (같으면 번호가 작은 쪽)
+public class PowerOfTwoChoicesPlacement implements PlacementStrategy {
+    private final SplitMix64Random random;
+
+    public PowerOfTwoChoicesPlacement(long seed) {
+        this.random = new SplitMix64Random(seed);
+    }
+
+    @Override
+    public int selectProcessor(List<Processor> processors) {
+        int numProcessors = processors.size();
+        if (numProcessors == 1) {
+            return 0;
+        }
+        int first = random.nextInt(numProcessors);
+        int second = random.nextInt(numProcessors - 1);
+        if (second >= first) {
+            second++;
+        }
+        int firstWorkload = processors.get(first).calculateTotalWorkload();
+        int secondWorkload = processors.get(second).calculateTotalWorkload();
+        if (firstWorkload != secondWorkload) {
+            return firstWorkload < secondWorkload ? first : second;
+        }
+        return Math.min(first, second);
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(random.getState());
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        random.setState(in.readLong());
+    }
+}
@@ -0,0 +1,30 @@
+package os.scheduling.placement;
+
+import os.scheduling.model.Processor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+// 작업량을 보지 않고 프로세서를 차례로 돌아가며 배정
+public class RoundRobinPlacement implements PlacementStrategy {
+    private int nextProcessor = 0;
+
+    @Override
+    public int selectProcessor(List<Processor> processors) {
+        int selected = nextProcessor;
+        nextProcessor = (nextProcessor + 1) % processors.size();
+        return selected;
+    }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(nextProcessor);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        nextProcessor = in.readInt();
+    }
+}
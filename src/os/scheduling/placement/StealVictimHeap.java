@@ -0,0 +1,104 @@
+package os.scheduling.placement;
+
+import os.scheduling.model.Processor;
+
+import java.util.List;
+
+// 작업 훔치기에서 빼앗을 프로세서: 훔칠 프로세스가 있는 프로세서 중 작업량이 가장 많은 프로세서. 같으면 번호가 작은 프로세서
+// 프로세서 번호를 (작업량, 번호) 기준 인덱스 최대 힙에 두고, 작업량이 바뀐 프로세서만 제자리로 옮긴다
+public class StealVictimHeap {
+    // 훔칠 프로세스가 없는 프로세서의 키 (작업량은 0 이상)
+    private static final int NOT_STEALABLE = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] workloads;
+
+    public StealVictimHeap(int numProcessors) {
+        this.heap = new int[numProcessors];
+        this.positions = new int[numProcessors];
+        this.workloads = new int[numProcessors];
+        for (int i = 0; i < numProcessors; i++) {
+            heap[i] = i;
+            positions[i] = i;
+            workloads[i] = NOT_STEALABLE;
+        }
+    }
+
+    // 훔치기 단계를 시작할 때 한 번 호출한다 (지난 단계 이후 모든 프로세서의 작업량이 바뀌었을 수 있음)
+    public void refresh(List<Processor> processors) {
+        for (int i = 0; i < heap.length; i++) {
+            updated(processors, i);
+        }
+    }
+
+    // 없으면 -1
+    public int selectVictim() {
+        return heap.length == 0 || workloads[heap[0]] == NOT_STEALABLE ? -1 : heap[0];
+    }
+
+    // 프로세스를 빼앗기거나 받은 프로세서마다 호출한다
+    public void updated(List<Processor> processors, int processorIndex) {
+        Processor processor = processors.get(processorIndex);
+        updateWorkload(processorIndex, processor.getStealableProcessCount() == 0
+                ? NOT_STEALABLE : processor.calculateTotalWorkload());
+    }
+
+    private void updateWorkload(int processorIndex, int workload) {
+        int previous = workloads[processorIndex];
+        if (previous == workload) {
+            return;
+        }
+        workloads[processorIndex] = workload;
+        if (workload > previous) {
+            siftUp(positions[processorIndex]);
+        } else {
+            siftDown(positions[processorIndex]);
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isGreater(heap[position], heap[parent])) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int largest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heap.length && isGreater(heap[left], heap[largest])) {
+                largest = left;
+            }
+            if (right < heap.length && isGreater(heap[right], heap[largest])) {
+                largest = right;
+            }
+            if (largest == position) {
+                return;
+            }
+            swap(position, largest);
+            position = largest;
+        }
+    }
+
+    private boolean isGreater(int a, int b) {
+        if (workloads[a] != workloads[b]) {
+            return workloads[a] > workloads[b];
+        }
+        return a < b;
+    }
+
+    private void swap(int a, int b) {
+        int processor = heap[a];
+        heap[a] = heap[b];
+        heap[b] = processor;
+        positions[heap[a]] = a;
+        positions[heap[b]] = b;
+    }
+}
@@ -0,0 +1,31 @@
+package os.scheduling.recovery;
+
+import os.scheduling.model.Process;
+
+import java.util.List;
+
+// 점유한 자원 합이 가장 적은 프로세스 (되돌릴 확보 작업이 가장 적다). 같으면 대기 목록에서 뒤에 있는 프로세스
+public class FewestHeldResourcesVictimPolicy implements VictimSelectionPolicy {
+
+    @Override
+    public int selectVictim(List<Process> candidates) {
+        int victim = 0;
+        int fewestHeld = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            int held = heldResources(candidates.get(i));
+            if (held <= fewestHeld) {
+                fewestHeld = held;
+                victim = i;
+            }
+        }
+        return victim;
+    }
+
+    private static int heldResources(Process process) {
+        int held = 0;
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            held += process.getAssignedResourceAt(k);
+        }
+        return held;
+    }
+}
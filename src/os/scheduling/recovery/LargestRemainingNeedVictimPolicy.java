@@ -0,0 +1,31 @@
+package os.scheduling.recovery;
+
+import os.scheduling.model.Process;
+
+import java.util.List;
+
+// 아직 확보하지 못한 요구량 합이 가장 큰 프로세스 (완료까지 가장 멀다). 같으면 대기 목록에서 뒤에 있는 프로세스
+public class LargestRemainingNeedVictimPolicy implements VictimSelectionPolicy {
+
+    @Override
+    public int selectVictim(List<Process> candidates) {
+        int victim = 0;
+        int largestNeed = -1;
+        for (int i = 0; i < candidates.size(); i++) {
+            int need = remainingNeed(candidates.get(i));
+            if (need >= largestNeed) {
+                largestNeed = need;
+                victim = i;
+            }
+        }
+        return victim;
+    }
+
+    private static int remainingNeed(Process process) {
+        int need = 0;
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            need += process.getRemainingResourceAt(k);
+        }
+        return need;
+    }
+}
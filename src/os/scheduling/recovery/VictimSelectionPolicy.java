@@ -0,0 +1,12 @@
+package os.scheduling.recovery;
+
+import os.scheduling.model.Process;
+
+import java.util.List;
+
+// 교착 상태에 빠진 대기 프로세스 중 점유 자원을 회수할 프로세스를 고른다
+// 후보는 대기 목록 순서이며 모두 자원을 하나 이상 점유하고 있다. 반환값은 후보 목록의 인덱스
+public interface VictimSelectionPolicy {
+
+    int selectVictim(List<Process> candidates);
+}
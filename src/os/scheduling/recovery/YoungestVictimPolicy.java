@@ -0,0 +1,20 @@
+package os.scheduling.recovery;
+
+import os.scheduling.model.Process;
+
+import java.util.List;
+
+// 가장 늦게 도착한 프로세스. 같으면 대기 목록에서 뒤에 있는 프로세스
+public class YoungestVictimPolicy implements VictimSelectionPolicy {
+
+    @Override
+    public int selectVictim(List<Process> candidates) {
+        int victim = 0;
+        for (int i = 1; i < candidates.size(); i++) {
+            if (candidates.get(i).getArrivalTime() >= candidates.get(victim).getArrivalTime()) {
+                victim = i;
+            }
+        }
+        return victim;
+    }
+}
@@ -0,0 +1,20 @@
+package os.scheduling.resource;
+
+// 자원 벡터 연산. 벡터는 int 배열의 한 구간(offset 부터 length 개)이며, 행렬을 1차원 배열로 펼친 경우 행 하나가 벡터 하나
+public interface ResourceVectorOps {
+
+    // 모든 종류에서 a <= b 인지
+    boolean isLessOrEqual(int[] a, int aOffset, int[] b, int bOffset, int length);
+
+    // 모든 종류에서 a <= b + c 인지
+    boolean isLessOrEqualToSum(int[] a, int aOffset, int[] b, int bOffset, int[] c, int cOffset, int length);
+
+    // target += source
+    void add(int[] target, int targetOffset, int[] source, int sourceOffset, int length);
+
+    // target -= source
+    void subtract(int[] target, int targetOffset, int[] source, int sourceOffset, int length);
+
+    // target = max(target, source)
+    void max(int[] target, int targetOffset, int[] source, int sourceOffset, int length);
+}
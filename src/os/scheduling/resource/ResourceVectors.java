@@ -0,0 +1,39 @@
+package os.scheduling.resource;
+
+// 자원 벡터 연산 구현 선택. JDK Vector API(인큐베이터 모듈)를 쓸 수 있으면 SIMD 구현, 아니면 스칼라 구현
+// SIMD 구현은 vector/ 소스 폴더에 따로 있으며, 모듈 옵션을 주고 컴파일, 실행해야 사용된다
+//   javac --add-modules jdk.incubator.vector -cp <출력> -d <출력> vector/os/scheduling/resource/*.java
+//   java --add-modules jdk.incubator.vector -cp <출력> os.scheduling.ProcessSimulator
+public final class ResourceVectors {
+    private static final String VECTORIZED_OPS = "os.scheduling.resource.VectorizedResourceVectorOps";
+    private static final ResourceVectorOps SCALAR = new ScalarResourceVectorOps();
+    private static final ResourceVectorOps VECTORIZED = loadVectorized();
+    private static final ResourceVectorOps OPS = VECTORIZED != null ? VECTORIZED : SCALAR;
+
+    private ResourceVectors() {
+    }
+
+    public static ResourceVectorOps ops() {
+        return OPS;
+    }
+
+    public static ResourceVectorOps scalar() {
+        return SCALAR;
+    }
+
+    // 사용할 수 없으면 null
+    public static ResourceVectorOps vectorized() {
+        return VECTORIZED;
+    }
+
+    private static ResourceVectorOps loadVectorized() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (ResourceVectorOps) Class.forName(VECTORIZED_OPS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
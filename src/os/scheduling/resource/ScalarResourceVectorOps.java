@@ -0,0 +1,46 @@
+package os.scheduling.resource;
+
+// 원소 하나씩 처리하는 기본 구현
+final class ScalarResourceVectorOps implements ResourceVectorOps {
+
+    @Override
+    public boolean isLessOrEqual(int[] a, int aOffset, int[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] > b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isLessOrEqualToSum(int[] a, int aOffset, int[] b, int bOffset, int[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] > b[bOffset + i] + c[cOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] += source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] -= source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void max(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = Math.max(target[targetOffset + i], source[sourceOffset + i]);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package os.scheduling.service;
+
+import os.scheduling.enums.VictimPolicy;
+import os.scheduling.model.Process;
+import os.scheduling.recovery.VictimSelectionPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 교착 상태 탐지-복구 방식의 자원 할당. Banker's 처럼 승인 전에 안전성을 검사하지 않고 요청을 낙관적으로 승인한다
+// 대기 프로세스는 자원 종류 하나씩 남은 요구량을 통째로 확보하고 확보한 자원은 쥔 채 기다린다 (점유 대기)
+// 시작 종류를 프로세스 번호로 정하므로 프로세스마다 확보 순서가 달라 교착이 생길 수 있다
+public class DeadlockDetector {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int[] totalResources;
+    private final int numOfResourceTypes;
+    private final VictimSelectionPolicy victimPolicy;
+
+    // 탐지 작업 버퍼 (호출마다 재사용)
+    private final int[] work;
+    private boolean[] finished = new boolean[INITIAL_CAPACITY];
+    private int[] candidateRows = new int[INITIAL_CAPACITY];
+    // 마지막 탐지에서 끝난 것으로 처리된 순서와 롤백한 프로세스 (행 번호)
+    private int[] finishOrder = new int[INITIAL_CAPACITY];
+    private int finishCount;
+    private int[] rolledBackRows = new int[INITIAL_CAPACITY];
+    private int rolledBackCount;
+    private boolean isRecoveryOrderPending = false;
+    private final List<Process> candidates = new ArrayList<>();
+    private long rowChecks = 0;
+
+    public DeadlockDetector(int[] totalResources, VictimPolicy victimPolicy) {
+        this.totalResources = Arrays.copyOf(totalResources, totalResources.length);
+        this.numOfResourceTypes = totalResources.length;
+        this.victimPolicy = DeadlockRecovery.getPolicy(victimPolicy);
+        this.work = new int[numOfResourceTypes];
+    }
+
+    public boolean exceedsTotal(Process process) {
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            if (process.getRequiredResourceAt(k) > totalResources[process.getResourceType(k)]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 대기 목록 순서대로 각 프로세스가 막히기 전까지 다음 종류를 확보한다. 모든 종류를 확보한 프로세스는 admitted 에 담는다
+    // 롤백 직후에는 탐지에서 구한 완료 순서대로, 희생 프로세스는 맨 나중에 확보한다
+    // (회수한 자원을 희생 프로세스가 곧바로 되찾아 같은 교착이 반복되는 것을 막고, 모든 프로세서가 놀 때는 적어도 하나가 모두 확보한다)
+    public void acquireResources(List<Process> waitingProcesses, int[] available, List<Process> admitted) {
+        admitted.clear();
+        if (isRecoveryOrderPending) {
+            isRecoveryOrderPending = false;
+            for (int f = 0; f < finishCount; f++) {
+                acquire(waitingProcesses.get(finishOrder[f]), available, admitted);
+            }
+            for (int v = 0; v < rolledBackCount; v++) {
+                acquire(waitingProcesses.get(rolledBackRows[v]), available, admitted);
+            }
+            return;
+        }
+        for (int i = 0; i < waitingProcesses.size(); i++) {
+            acquire(waitingProcesses.get(i), available, admitted);
+        }
+    }
+
+    private void acquire(Process process, int[] available, List<Process> admitted) {
+        rowChecks++;
+        if (acquireNextTypes(process, available)) {
+            admitted.add(process);
+        }
+    }
+
+    // 자원 항목은 종류 오름차순이므로 시작 종류 이상인 첫 항목부터 한 바퀴 돈다 (남은 요구량이 0 인 종류는 항상 통과)
+    private boolean acquireNextTypes(Process process, int[] available) {
+        int startType = Math.floorMod(process.getId(), numOfResourceTypes);
+        int entryCount = process.getResourceEntryCount();
+        int startEntry = 0;
+        while (startEntry < entryCount && process.getResourceType(startEntry) < startType) {
+            startEntry++;
+        }
+        for (int k = 0; k < entryCount; k++) {
+            int entry = (startEntry + k) % entryCount;
+            int type = process.getResourceType(entry);
+            int remaining = process.getRemainingResourceAt(entry);
+            if (remaining > available[type]) {
+                return false;
+            }
+            if (remaining > 0) {
+                process.assignRemainingResource(type, available);
+            }
+        }
+        return true;
+    }
+
+    // 자원 행렬 기반 탐지: 실행 중인 프로세스는 끝나면 자원을 모두 반납하므로 대기 프로세스가 점유하지 않은 자원은 모두 쓸 수 있다고 보고,
+    // 남은 요구량을 채울 수 있는 대기 프로세스부터 끝난 것으로 처리한다. 끝까지 남는 프로세스들이 교착 상태
+    // 교착이 있으면 정책이 고른 희생 프로세스의 점유 자원을 회수해 available 에 돌려주고(롤백), 교착이 풀릴 때까지 반복한다
+    // 반환값은 롤백한 프로세스 수 (교착이 없으면 0). 롤백했다면 같은 대기 목록으로 바로 acquireResources 를 호출해야 한다
+    public int detectAndRecover(List<Process> waitingProcesses, int[] available) {
+        int processCount = waitingProcesses.size();
+        ensureCapacity(processCount);
+        System.arraycopy(totalResources, 0, work, 0, numOfResourceTypes);
+        for (int i = 0; i < processCount; i++) {
+            addAssignedResources(waitingProcesses.get(i), -1);
+        }
+        Arrays.fill(finished, 0, processCount, false);
+        finishCount = 0;
+        rolledBackCount = 0;
+
+        int blockedCount = finishUnblockedProcesses(waitingProcesses, processCount, processCount);
+        int rollbacks = 0;
+        while (blockedCount > 0) {
+            int victimRow = selectVictim(waitingProcesses, processCount);
+            Process victim = waitingProcesses.get(victimRow);
+            addAssignedResources(victim, 1);
+            victim.releaseResourcesTo(available);
+            finished[victimRow] = true;
+            rolledBackRows[rolledBackCount++] = victimRow;
+            rollbacks++;
+            blockedCount = finishUnblockedProcesses(waitingProcesses, processCount, blockedCount - 1);
+        }
+        isRecoveryOrderPending = rollbacks > 0;
+        return rollbacks;
+    }
+
+    // 앞에서부터 반복 순회하며 더 이상 끝낼 프로세스가 없을 때까지 진행, 남은 프로세스 수를 돌려준다
+    private int finishUnblockedProcesses(List<Process> waitingProcesses, int processCount, int blockedCount) {
+        int row = 0;
+        int checkedWithoutProgress = 0;
+        while (blockedCount > 0 && checkedWithoutProgress < processCount) {
+            if (!finished[row] && canFinish(waitingProcesses.get(row))) {
+                addAssignedResources(waitingProcesses.get(row), 1);
+                finished[row] = true;
+                finishOrder[finishCount++] = row;
+                blockedCount--;
+                checkedWithoutProgress = 0;
+            } else {
+                checkedWithoutProgress++;
+            }
+            row = (row + 1) % processCount;
+        }
+        return blockedCount;
+    }
+
+    private void addAssignedResources(Process process, int sign) {
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            work[process.getResourceType(k)] += sign * process.getAssignedResourceAt(k);
+        }
+    }
+
+    private boolean canFinish(Process process) {
+        rowChecks++;
+        return process.canAllocateResources(work);
+    }
+
+    // 점유 자원이 없는 프로세스는 회수해도 풀리는 것이 없으므로 후보에서 뺀다 (교착이면 점유한 프로세스가 반드시 있다)
+    private int selectVictim(List<Process> waitingProcesses, int processCount) {
+        candidates.clear();
+        for (int row = 0; row < processCount; row++) {
+            Process process = waitingProcesses.get(row);
+            if (!finished[row] && holdsResources(process)) {
+                candidateRows[candidates.size()] = row;
+                candidates.add(process);
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("Blocked processes hold no resources");
+        }
+        return candidateRows[victimPolicy.selectVictim(candidates)];
+    }
+
+    private boolean holdsResources(Process process) {
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            if (process.getAssignedResourceAt(k) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 마지막으로 읽은 뒤 검사한 행(프로세스 하나의 요구량 비교) 수
+    public long takeRowChecks() {
+        long checks = rowChecks;
+        rowChecks = 0;
+        return checks;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= finished.length) {
+            return;
+        }
+        int newCapacity = Math.max(rows, finished.length * 2);
+        finished = new boolean[newCapacity];
+        candidateRows = new int[newCapacity];
+        finishOrder = new int[newCapacity];
+        rolledBackRows = new int[newCapacity];
+    }
+}
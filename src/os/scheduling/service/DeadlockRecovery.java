@@ -0,0 +1,29 @@
+package os.scheduling.service;
+
+import os.scheduling.enums.VictimPolicy;
+import os.scheduling.recovery.FewestHeldResourcesVictimPolicy;
+import os.scheduling.recovery.LargestRemainingNeedVictimPolicy;
+import os.scheduling.recovery.VictimSelectionPolicy;
+import os.scheduling.recovery.YoungestVictimPolicy;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class DeadlockRecovery {
+
+    private static final Map<VictimPolicy, VictimSelectionPolicy> policies = new EnumMap<>(VictimPolicy.class);
+
+    static {
+        policies.put(VictimPolicy.YOUNGEST, new YoungestVictimPolicy());
+        policies.put(VictimPolicy.FEWEST_HELD_RESOURCES, new FewestHeldResourcesVictimPolicy());
+        policies.put(VictimPolicy.LARGEST_REMAINING_NEED, new LargestRemainingNeedVictimPolicy());
+    }
+
+    public static VictimSelectionPolicy getPolicy(VictimPolicy victimPolicy) {
+        VictimSelectionPolicy policy = policies.get(victimPolicy);
+        if (policy == null) {
+            throw new IllegalArgumentException("Unsupported victim policy: " + victimPolicy);
+        }
+        return policy;
+    }
+}
@@ -0,0 +1,34 @@
+package os.scheduling.service;
+
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.placement.LeastLoadedPlacement;
+import os.scheduling.placement.PlacementStrategy;
+import os.scheduling.placement.PowerOfTwoChoicesPlacement;
+import os.scheduling.placement.RoundRobinPlacement;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LoadBalancer {
+
+    // 배치 전략은 상태를 가지므로 시뮬레이션마다 새로 만든다 (인자: 프로세서 수, 시드)
+    private interface Factory {
+        PlacementStrategy create(int numProcessors, long seed);
+    }
+
+    private static final Map<PlacementAlgorithm, Factory> factories = new EnumMap<>(PlacementAlgorithm.class);
+
+    static {
+        factories.put(PlacementAlgorithm.LEAST_LOADED, (numProcessors, seed) -> new LeastLoadedPlacement(numProcessors));
+        factories.put(PlacementAlgorithm.POWER_OF_TWO_CHOICES, (numProcessors, seed) -> new PowerOfTwoChoicesPlacement(seed));
+        factories.put(PlacementAlgorithm.ROUND_ROBIN, (numProcessors, seed) -> new RoundRobinPlacement());
+    }
+
+    public static PlacementStrategy createStrategy(PlacementAlgorithm placementAlgorithm, int numProcessors, long seed) {
+        Factory factory = factories.get(placementAlgorithm);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unsupported placement algorithm: " + placementAlgorithm);
+        }
+        return factory.create(numProcessors, seed);
+    }
+}
@@ -1,169 +1,510 @@
 package os.scheduling.service;
 
+import os.scheduling.enums.ResourceLayout;
 import os.scheduling.model.Process;
+import os.scheduling.resource.ResourceVectorOps;
+import os.scheduling.resource.ResourceVectors;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ResourceManager {
-    private int[] available;
-    private int[][] max;
-    private int[][] allocation;
-    private boolean[] finished;
+    public static final int UNSOLVABLE = -1;
+    public static final int NO_SAFE_ADMISSION = 0;
+    public static final int ADMITTED = 1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ResourceVectorOps VECTORS = ResourceVectors.ops();
+
+    private final int[] totalResources;
+    private final int numOfResourceTypes;
+    private final List<Process> waitingProcesses = new ArrayList<>();
+
+    // 대기 프로세스별 need / allocation 행렬 (행 우선 1차원 배열)
+    // SPARSE 면 행마다 rowStart 부터 rowLength 개 항목이 (rowTypes, need, allocation) 이며, need 와 allocation 이 모두 0 인 종류는 저장하지 않는다
+    private final boolean isSparse;
+    private int[] need;
+    private int[] allocation;
+    private int[] rowTypes;
+    private int[] rowStart;
+    private int[] rowLength;
+    private int entryCount = 0;
+    private boolean[] exceedsTotal;
+
+    // 안전성 검사 작업 버퍼 (호출마다 재사용)
+    private int[] baseWork;
     private int[] work;
+    private int[] maxBlockedNeed;
+    private int[] blockedAllocation;
+    // 막힌 프로세스들의 할당량까지 모두 돌려받아도 가장 큰 need 를 채우려면 승인할 요청이 최소 이만큼은 되어야 한다
+    private int[] blockedShortfall;
+    // SPARSE: blockedShortfall 이 양수인 종류 수. 요청이 이 종류들을 모두 포함하지 않으면 미리 걸러진다
+    private int positiveShortfallCount;
+    private boolean[] baseFinished;
+    private boolean[] finished;
+    private int[] blockedIndices;
+    private int blockedCount;
+    private int[] safeSequence;
+    private long rowChecks = 0;
+
+    // 안전성 검사 결과 캐시 (키: 가용 자원 벡터의 지문). 대기 집합이 바뀌면 비우므로, 남은 항목은 모두 현재 need / allocation 행렬에 대한 결과다
+    // 대기 집합이 그대로인 동안 가용 자원은 반납으로 늘기만 하므로, 바뀐 경우에만 묻는 시뮬레이터에서는 적중하지 않는다
+    // 같은 상태를 되풀이해 묻는 호출자를 위한 것이라 기본값은 꺼져 있다
+    private final int admissionCacheCapacity;
+    private final Map<Long, CachedAdmission> admissionCache;
+    private long cacheHits = 0;
+    private long cacheMisses = 0;
+
+    private record CachedAdmission(int[] available, int status, Process[] selectedProcesses) {
+    }
+
+    public ResourceManager(int[] totalResources) {
+        this(totalResources, 0);
+    }
+
+    // admissionCacheCapacity 를 넘으면 가장 오래 쓰지 않은 결과부터 버린다 (0 이면 캐시를 쓰지 않음)
+    public ResourceManager(int[] totalResources, int admissionCacheCapacity) {
+        this(totalResources, admissionCacheCapacity, ResourceLayout.DENSE);
+    }
 
-    private ResourceManager(int[] available, int[][] max, int[][] allocation) {
-        this.available = Arrays.copyOf(available, available.length);
-        this.max = copy2DArray(max);
-        this.allocation = copy2DArray(allocation);
-        this.finished = new boolean[max.length];
-        this.work = Arrays.copyOf(available, available.length);
+    // SPARSE 면 안전성 검사가 0 이 아닌 항목만 다루므로, 종류가 많고 프로세스마다 몇 종류만 요구할 때 비용이 실제 요구량에 비례한다
+    public ResourceManager(int[] totalResources, int admissionCacheCapacity, ResourceLayout resourceLayout) {
+        this.isSparse = resourceLayout == ResourceLayout.SPARSE;
+        this.totalResources = Arrays.copyOf(totalResources, totalResources.length);
+        this.numOfResourceTypes = totalResources.length;
+        this.baseWork = new int[numOfResourceTypes];
+        this.work = new int[numOfResourceTypes];
+        this.maxBlockedNeed = new int[numOfResourceTypes];
+        this.blockedAllocation = new int[numOfResourceTypes];
+        this.blockedShortfall = new int[numOfResourceTypes];
+        ensureCapacity(INITIAL_CAPACITY);
+        this.admissionCacheCapacity = admissionCacheCapacity;
+        this.admissionCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedAdmission> eldest) {
+                return size() > admissionCacheCapacity;
+            }
+        };
     }
 
     public static Object[] getProcessToAssignResources(int[] currResourceInfo, int[] totalResourceInfo, List<Process> currProcessWaitingList) {
-        int[] available = currResourceInfo.clone();
-        int[][] max = extractMax(currProcessWaitingList);
-        int[][] allocation = extractAllocation(currProcessWaitingList);
+        ResourceManager resourceManager = new ResourceManager(totalResourceInfo);
+        for (Process process : currProcessWaitingList) {
+            resourceManager.addWaitingProcess(process);
+        }
+        return resourceManager.getProcessToAssignResources(currResourceInfo);
+    }
 
-        for (int processIndex = 0; processIndex < currProcessWaitingList.size(); processIndex++) {
-            int[] request = currProcessWaitingList.get(processIndex).getRemainingResources();
+    // 대기 큐 상태 갱신 메서드
+    public void addWaitingProcess(Process process) {
+        int row = waitingProcesses.size();
+        ensureCapacity(row + 1);
+        waitingProcesses.add(process);
 
-            if (anyGreaterThan(totalResourceInfo, request)) {
-                return new Object[]{-1, null};
+        if (isSparse) {
+            addSparseRow(row, process);
+        } else {
+            int offset = row * numOfResourceTypes;
+            Arrays.fill(need, offset, offset + numOfResourceTypes, 0);
+            Arrays.fill(allocation, offset, offset + numOfResourceTypes, 0);
+            for (int k = 0; k < process.getResourceEntryCount(); k++) {
+                need[offset + process.getResourceType(k)] = process.getRemainingResourceAt(k);
+                allocation[offset + process.getResourceType(k)] = process.getAssignedResourceAt(k);
             }
+            exceedsTotal[row] = anyGreaterThan(totalResources, need, offset);
+        }
+        admissionCache.clear();
+    }
 
-            ResourceManager resourceManager = new ResourceManager(available, max, allocation);
-            SafetyCheckResult safetyCheckResult = resourceManager.simulateRequest(processIndex, request);
+    private void addSparseRow(int row, Process process) {
+        ensureEntryCapacity(entryCount + process.getResourceEntryCount());
+        int entry = entryCount;
+        boolean exceeds = false;
+        for (int k = 0; k < process.getResourceEntryCount(); k++) {
+            int remaining = process.getRemainingResourceAt(k);
+            int assigned = process.getAssignedResourceAt(k);
+            if (remaining == 0 && assigned == 0) {
+                continue;
+            }
+            int type = process.getResourceType(k);
+            rowTypes[entry] = type;
+            need[entry] = remaining;
+            allocation[entry++] = assigned;
+            exceeds |= remaining > totalResources[type];
+        }
+        rowStart[row] = entryCount;
+        rowLength[row] = entry - entryCount;
+        entryCount = entry;
+        exceedsTotal[row] = exceeds;
+    }
 
-            if (safetyCheckResult.isSafe()) {
-                return new Object[]{1, getPickedProcesses(currProcessWaitingList, safetyCheckResult.safeSequence(), available)};
+    // 프로세서에 배치된 (isAssigned) 프로세스의 행을 한 번에 당겨 지운다
+    public void removeAssignedProcesses() {
+        int kept = 0;
+        int keptEntries = 0;
+        for (int row = 0; row < waitingProcesses.size(); row++) {
+            Process process = waitingProcesses.get(row);
+            if (process.isAssigned()) {
+                continue;
+            }
+            if (isSparse) {
+                // 남은 행의 항목을 앞으로 당긴다 (항목 풀 안의 순서는 행 순서와 같음)
+                int length = rowLength[row];
+                if (keptEntries != rowStart[row]) {
+                    System.arraycopy(rowTypes, rowStart[row], rowTypes, keptEntries, length);
+                    System.arraycopy(need, rowStart[row], need, keptEntries, length);
+                    System.arraycopy(allocation, rowStart[row], allocation, keptEntries, length);
+                }
+                rowStart[kept] = keptEntries;
+                rowLength[kept] = length;
+                keptEntries += length;
             }
+            if (kept != row) {
+                waitingProcesses.set(kept, process);
+                if (!isSparse) {
+                    System.arraycopy(need, row * numOfResourceTypes, need, kept * numOfResourceTypes, numOfResourceTypes);
+                    System.arraycopy(allocation, row * numOfResourceTypes, allocation, kept * numOfResourceTypes, numOfResourceTypes);
+                }
+                exceedsTotal[kept] = exceedsTotal[row];
+            }
+            kept++;
+        }
+        entryCount = keptEntries;
+        if (kept < waitingProcesses.size()) {
+            waitingProcesses.subList(kept, waitingProcesses.size()).clear();
+            admissionCache.clear();
         }
+    }
 
-        return new Object[]{0, null};
+    public int getWaitingProcessCount() {
+        return waitingProcesses.size();
     }
 
-    public SafetyCheckResult simulateRequest(int processIndex, int[] request) {
-        int[] availableBackup = Arrays.copyOf(available, available.length);
-        int[][] allocationBackup = copy2DArray(allocation);
+    public Object[] getProcessToAssignResources(int[] available) {
+        List<Process> selectedProcesses = new ArrayList<>();
+        int allocationStatus = selectProcessesToAssign(available, selectedProcesses);
+        return new Object[]{allocationStatus, allocationStatus == ADMITTED ? selectedProcesses : null};
+    }
 
-        if (!canGrantRequest(processIndex, request)) {
-            return new SafetyCheckResult(false, new ArrayList<>());
+    // 자원 할당 대상 선정 (Banker's algorithm)
+    // 선택된 프로세스는 selectedProcesses 에 담기며, 반환값은 UNSOLVABLE / NO_SAFE_ADMISSION / ADMITTED
+    public int selectProcessesToAssign(int[] available, List<Process> selectedProcesses) {
+        if (admissionCacheCapacity == 0) {
+            return computeProcessesToAssign(available, selectedProcesses);
         }
-        grantRequest(processIndex, request);
-        SafetyCheckResult safetyResult = checkSafety();
-        if (!safetyResult.isSafe()) {
-            restoreState(availableBackup, allocationBackup);
+        long fingerprint = fingerprint(available);
+        CachedAdmission cached = admissionCache.get(fingerprint);
+        if (cached != null && Arrays.equals(cached.available(), available)) {
+            cacheHits++;
+            selectedProcesses.clear();
+            Collections.addAll(selectedProcesses, cached.selectedProcesses());
+            return cached.status();
         }
-        return safetyResult;
+        cacheMisses++;
+        int allocationStatus = computeProcessesToAssign(available, selectedProcesses);
+        admissionCache.put(fingerprint, new CachedAdmission(available.clone(), allocationStatus, selectedProcesses.toArray(new Process[0])));
+        return allocationStatus;
     }
 
-    private SafetyCheckResult checkSafety() {
-        List<Integer> safeSequence = new ArrayList<>();
-        boolean foundProcess;
+    private int computeProcessesToAssign(int[] available, List<Process> selectedProcesses) {
+        selectedProcesses.clear();
+        int processCount = waitingProcesses.size();
+        boolean isBaseComputed = false;
 
-        do {
-            foundProcess = false;
-            for (int i = 0; i < max.length; i++) {
-                if (!finished[i] && canExecuteProcess(i)) {
-                    allocateResources(i);
-                    finished[i] = true;
-                    safeSequence.add(i);
-                    foundProcess = true;
-                }
+        for (int processIndex = 0; processIndex < processCount; processIndex++) {
+            if (exceedsTotal[processIndex]) {
+                return UNSOLVABLE;
+            }
+            if (!canGrantRequest(processIndex, available)) {
+                continue;
             }
-        } while (foundProcess);
+            if (!isBaseComputed) {
+                computeBaseClosure(available, processCount);
+                isBaseComputed = true;
+            }
+            if (isSafeAfterGrant(processIndex)) {
+                int sequenceLength = buildSafeSequence(processIndex, available, processCount);
+                addPickedProcesses(sequenceLength, available, selectedProcesses);
+                return ADMITTED;
+            }
+        }
 
-        return allProcessesFinished() ? new SafetyCheckResult(true, safeSequence) : new SafetyCheckResult(false, new ArrayList<>());
+        return NO_SAFE_ADMISSION;
     }
 
-    private boolean canGrantRequest(int processIndex, int[] request) {
-        for (int i = 0; i < request.length; i++) {
-            if (request[i] > available[i] || request[i] > max[processIndex][i] - allocation[processIndex][i]) {
-                return false;
+    // 요청 없이 현재 가용 자원만으로 끝낼 수 있는 프로세스 집합은 모든 후보에 공통이므로 한 번만 계산
+    private void computeBaseClosure(int[] available, int processCount) {
+        System.arraycopy(available, 0, baseWork, 0, numOfResourceTypes);
+        Arrays.fill(baseFinished, 0, processCount, false);
+
+        int row = 0;
+        int checkedWithoutProgress = 0;
+        while (checkedWithoutProgress < processCount) {
+            if (!baseFinished[row] && canExecuteProcess(row, baseWork)) {
+                releaseAllocation(row, baseWork, 0);
+                baseFinished[row] = true;
+                checkedWithoutProgress = 0;
+            } else {
+                checkedWithoutProgress++;
             }
+            row = (row + 1) % processCount;
         }
-        return true;
-    }
 
-    private boolean canExecuteProcess(int i) {
-        for (int j = 0; j < available.length; j++) {
-            if (max[i][j] - allocation[i][j] > work[j]) {
-                return false;
+        blockedCount = 0;
+        Arrays.fill(maxBlockedNeed, 0);
+        Arrays.fill(blockedAllocation, 0);
+        for (int i = 0; i < processCount; i++) {
+            if (!baseFinished[i]) {
+                blockedIndices[blockedCount++] = i;
+                if (isSparse) {
+                    for (int e = rowStart[i]; e < rowStart[i] + rowLength[i]; e++) {
+                        maxBlockedNeed[rowTypes[e]] = Math.max(maxBlockedNeed[rowTypes[e]], need[e]);
+                        blockedAllocation[rowTypes[e]] += allocation[e];
+                    }
+                } else {
+                    int offset = i * numOfResourceTypes;
+                    VECTORS.max(maxBlockedNeed, 0, need, offset, numOfResourceTypes);
+                    VECTORS.add(blockedAllocation, 0, allocation, offset, numOfResourceTypes);
+                }
+            }
+        }
+        System.arraycopy(maxBlockedNeed, 0, blockedShortfall, 0, numOfResourceTypes);
+        VECTORS.subtract(blockedShortfall, 0, baseWork, 0, numOfResourceTypes);
+        VECTORS.subtract(blockedShortfall, 0, blockedAllocation, 0, numOfResourceTypes);
+        if (isSparse) {
+            positiveShortfallCount = 0;
+            for (int shortfall : blockedShortfall) {
+                if (shortfall > 0) {
+                    positiveShortfallCount++;
+                }
             }
+            // 후보 검사는 work 를 baseWork 에서 바뀐 항목만 고쳤다가 되돌린다
+            System.arraycopy(baseWork, 0, work, 0, numOfResourceTypes);
         }
-        return true;
     }
 
-    private void allocateResources(int i) {
-        for (int j = 0; j < available.length; j++) {
-            work[j] += allocation[i][j];
+    // 요청을 승인하면 해당 프로세스가 반납할 자원만큼 work 가 늘어나므로, 막혀 있던 프로세스만 다시 검사
+    private boolean isSafeAfterGrant(int processIndex) {
+        if (blockedCount == 0) {
+            return true;
         }
+        rowChecks++;
+        // 막힌 프로세스들의 할당량까지 모두 돌려받아도 가장 큰 need 를 채울 수 없으면 바로 불안전
+        if (!coversBlockedShortfall(processIndex)) {
+            return false;
+        }
+        if (isSparse) {
+            boolean isSafe = isSafeAfterSparseGrant(processIndex);
+            restoreWork(processIndex);
+            return isSafe;
+        }
+        int offset = processIndex * numOfResourceTypes;
+        System.arraycopy(baseWork, 0, work, 0, numOfResourceTypes);
+        VECTORS.add(work, 0, need, offset, numOfResourceTypes);
+        return finishBlockedProcesses();
     }
 
-    private void grantRequest(int processIndex, int[] request) {
-        for (int i = 0; i < request.length; i++) {
-            available[i] -= request[i];
-            allocation[processIndex][i] += request[i];
+    private boolean isSafeAfterSparseGrant(int processIndex) {
+        for (int e = rowStart[processIndex]; e < rowStart[processIndex] + rowLength[processIndex]; e++) {
+            work[rowTypes[e]] += need[e];
         }
+        return finishBlockedProcesses();
     }
 
-    private void restoreState(int[] availableBackup, int[][] allocationBackup) {
-        available = availableBackup;
-        allocation = allocationBackup;
+    // 요청한 프로세스와 끝난 것으로 처리된 막힌 프로세스가 바꾼 종류만 baseWork 값으로 되돌린다
+    private void restoreWork(int processIndex) {
+        restoreWorkRow(processIndex);
+        for (int b = 0; b < blockedCount; b++) {
+            if (finished[blockedIndices[b]]) {
+                restoreWorkRow(blockedIndices[b]);
+            }
+        }
     }
 
-    private boolean allProcessesFinished() {
-        for (boolean f : finished) {
-            if (!f) return false;
+    private void restoreWorkRow(int row) {
+        for (int e = rowStart[row]; e < rowStart[row] + rowLength[row]; e++) {
+            work[rowTypes[e]] = baseWork[rowTypes[e]];
+        }
+    }
+
+    private boolean coversBlockedShortfall(int processIndex) {
+        if (!isSparse) {
+            return VECTORS.isLessOrEqual(blockedShortfall, 0, need, processIndex * numOfResourceTypes, numOfResourceTypes);
+        }
+        // 저장하지 않은 종류의 need 는 0 이므로, 모자란 종류는 모두 요청 항목에 있어야 한다
+        int coveredCount = 0;
+        for (int e = rowStart[processIndex]; e < rowStart[processIndex] + rowLength[processIndex]; e++) {
+            int shortfall = blockedShortfall[rowTypes[e]];
+            if (shortfall > need[e]) {
+                return false;
+            }
+            if (shortfall > 0) {
+                coveredCount++;
+            }
         }
-        return true;
+        return coveredCount == positiveShortfallCount;
     }
 
-    private int[][] copy2DArray(int[][] array) {
-        int[][] copy = new int[array.length][];
-        for (int i = 0; i < array.length; i++) {
-            copy[i] = Arrays.copyOf(array[i], array[i].length);
+    private boolean finishBlockedProcesses() {
+        for (int b = 0; b < blockedCount; b++) {
+            finished[blockedIndices[b]] = false;
         }
-        return copy;
+
+        int remaining = blockedCount;
+        boolean foundProcess;
+        do {
+            foundProcess = false;
+            for (int b = 0; b < blockedCount; b++) {
+                int row = blockedIndices[b];
+                if (!finished[row] && canExecuteProcess(row, work)) {
+                    releaseAllocation(row, work, 0);
+                    finished[row] = true;
+                    remaining--;
+                    foundProcess = true;
+                }
+            }
+        } while (foundProcess && remaining > 0);
+
+        return remaining == 0;
     }
 
-    private static int[][] extractMax(List<Process> processList) {
-        int[][] max = new int[processList.size()][];
-        for (int i = 0; i < processList.size(); i++) {
-            max[i] = processList.get(i).getRequiredResources();
+    // 기존 검사와 같은 순서(앞에서부터 반복 순회)로 안전 순서열을 만든다
+    private int buildSafeSequence(int grantedIndex, int[] available, int processCount) {
+        System.arraycopy(available, 0, work, 0, numOfResourceTypes);
+        Arrays.fill(finished, 0, processCount, false);
+
+        int sequenceLength = 0;
+        int row = 0;
+        int checkedWithoutProgress = 0;
+        while (checkedWithoutProgress < processCount) {
+            boolean isGranted = row == grantedIndex;
+            if (!finished[row] && (isGranted || canExecuteProcess(row, work))) {
+                releaseAllocation(row, work, isGranted ? 1 : 0);
+                finished[row] = true;
+                safeSequence[sequenceLength++] = row;
+                checkedWithoutProgress = 0;
+            } else {
+                checkedWithoutProgress++;
+            }
+            row = (row + 1) % processCount;
         }
-        return max;
+        return sequenceLength;
     }
 
-    private static int[][] extractAllocation(List<Process> processList) {
-        int[][] allocation = new int[processList.size()][];
-        for (int i = 0; i < processList.size(); i++) {
-            allocation[i] = processList.get(i).getAssignedResources();
+    private void addPickedProcesses(int sequenceLength, int[] available, List<Process> pickedProcesses) {
+        int[] remaining = work;
+        System.arraycopy(available, 0, remaining, 0, numOfResourceTypes);
+        for (int s = 0; s < sequenceLength; s++) {
+            int picked = safeSequence[s];
+            if (canExecuteProcess(picked, remaining)) {
+                if (isSparse) {
+                    for (int e = rowStart[picked]; e < rowStart[picked] + rowLength[picked]; e++) {
+                        remaining[rowTypes[e]] -= need[e];
+                    }
+                } else {
+                    VECTORS.subtract(remaining, 0, need, picked * numOfResourceTypes, numOfResourceTypes);
+                }
+                pickedProcesses.add(waitingProcesses.get(picked));
+            }
         }
-        return allocation;
     }
 
-    private static List<Process> getPickedProcesses(List<Process> processList, List<Integer> safeSequence, int[] available) {
-        List<Process> pickedProcesses = new ArrayList<>();
-        for (int picked : safeSequence) {
-            Process process = processList.get(picked);
+    private boolean canGrantRequest(int processIndex, int[] available) {
+        return canExecuteProcess(processIndex, available);
+    }
 
-            if (process.canAllocateResources(available)) {
-                process.allocateResources(available);
-                pickedProcesses.add(process);
+    private boolean canExecuteProcess(int row, int[] work) {
+        rowChecks++;
+        if (isSparse) {
+            for (int e = rowStart[row]; e < rowStart[row] + rowLength[row]; e++) {
+                if (need[e] > work[rowTypes[e]]) {
+                    return false;
+                }
             }
+            return true;
         }
-        return pickedProcesses;
+        return VECTORS.isLessOrEqual(need, row * numOfResourceTypes, work, 0, numOfResourceTypes);
     }
 
-    private static boolean anyGreaterThan(int[] total, int[] request) {
-        for (int i = 0; i < total.length; i++) {
-            if (total[i] < request[i]) {
-                return true;
+    // grantedNeedFactor 가 1 이면 승인된 요청(need)까지 할당된 것으로 보고 함께 반납
+    private void releaseAllocation(int row, int[] work, int grantedNeedFactor) {
+        if (isSparse) {
+            for (int e = rowStart[row]; e < rowStart[row] + rowLength[row]; e++) {
+                work[rowTypes[e]] += allocation[e] + grantedNeedFactor * need[e];
             }
+            return;
+        }
+        int offset = row * numOfResourceTypes;
+        VECTORS.add(work, 0, allocation, offset, numOfResourceTypes);
+        if (grantedNeedFactor == 1) {
+            VECTORS.add(work, 0, need, offset, numOfResourceTypes);
+        }
+    }
+
+    // 마지막으로 읽은 뒤 검사한 행(프로세스 하나의 요구량 비교) 수
+    public long takeRowChecks() {
+        long checks = rowChecks;
+        rowChecks = 0;
+        return checks;
+    }
+
+    // 마지막으로 읽은 뒤의 캐시 적중 / 실패 수
+    public long takeCacheHits() {
+        long hits = cacheHits;
+        cacheHits = 0;
+        return hits;
+    }
+
+    public long takeCacheMisses() {
+        long misses = cacheMisses;
+        cacheMisses = 0;
+        return misses;
+    }
+
+    private static long fingerprint(int[] available) {
+        long hash = available.length;
+        for (int value : available) {
+            hash = (hash ^ value) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 29;
+        }
+        return hash;
+    }
+
+    private void ensureCapacity(int rows) {
+        int capacity = exceedsTotal == null ? 0 : exceedsTotal.length;
+        if (rows <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(rows, Math.max(INITIAL_CAPACITY, capacity * 2));
+        if (isSparse) {
+            rowStart = rowStart == null ? new int[newCapacity] : Arrays.copyOf(rowStart, newCapacity);
+            rowLength = rowLength == null ? new int[newCapacity] : Arrays.copyOf(rowLength, newCapacity);
+        } else {
+            need = need == null ? new int[newCapacity * numOfResourceTypes] : Arrays.copyOf(need, newCapacity * numOfResourceTypes);
+            allocation = allocation == null ? new int[newCapacity * numOfResourceTypes] : Arrays.copyOf(allocation, newCapacity * numOfResourceTypes);
         }
-        return false;
+        exceedsTotal = exceedsTotal == null ? new boolean[newCapacity] : Arrays.copyOf(exceedsTotal, newCapacity);
+        baseFinished = new boolean[newCapacity];
+        finished = new boolean[newCapacity];
+        blockedIndices = new int[newCapacity];
+        safeSequence = new int[newCapacity];
+    }
+
+    private void ensureEntryCapacity(int entries) {
+        int capacity = rowTypes == null ? 0 : rowTypes.length;
+        if (entries <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(entries, Math.max(INITIAL_CAPACITY, capacity * 2));
+        rowTypes = rowTypes == null ? new int[newCapacity] : Arrays.copyOf(rowTypes, newCapacity);
+        need = need == null ? new int[newCapacity] : Arrays.copyOf(need, newCapacity);
+        allocation = allocation == null ? new int[newCapacity] : Arrays.copyOf(allocation, newCapacity);
+    }
+
+    private static boolean anyGreaterThan(int[] total, int[] request, int offset) {
+        return !VECTORS.isLessOrEqual(request, offset, total, 0, total.length);
     }
 }
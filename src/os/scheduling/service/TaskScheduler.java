@@ -1,11 +1,9 @@
 package os.scheduling.service;
 
 import os.scheduling.enums.SchedulingAlgorithm;
-import os.scheduling.model.Process;
 import os.scheduling.strategy.*;
 
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 
 public class TaskScheduler {
@@ -17,13 +15,18 @@ public class TaskScheduler {
         strategies.put(SchedulingAlgorithm.RR, new RoundRobinStrategy());
         strategies.put(SchedulingAlgorithm.SJF, new ShortestJobFirstStrategy());
         strategies.put(SchedulingAlgorithm.SRJF, new ShortestRemainingJobFirstStrategy());
+        strategies.put(SchedulingAlgorithm.MLFQ, new MultiLevelFeedbackQueueStrategy());
+        strategies.put(SchedulingAlgorithm.CFS, new CompletelyFairStrategy());
+        strategies.put(SchedulingAlgorithm.EDF, new EarliestDeadlineFirstStrategy());
+        strategies.put(SchedulingAlgorithm.LOTTERY, new LotteryStrategy());
+        strategies.put(SchedulingAlgorithm.STRIDE, new StrideStrategy());
     }
 
-    public static int getProcessIdxFromQueue(Process currentProcess, List<Process> readyQueue, SchedulingAlgorithm schedulingAlgorithm, int currentProcessRunTick, int timeQuantum) {
+    public static SchedulingStrategy getStrategy(SchedulingAlgorithm schedulingAlgorithm) {
         SchedulingStrategy strategy = strategies.get(schedulingAlgorithm);
         if (strategy == null) {
             throw new IllegalArgumentException("Unsupported os.scheduling algorithm: " + schedulingAlgorithm);
         }
-        return strategy.selectNextProcessIndex(readyQueue, currentProcess, currentProcessRunTick, timeQuantum);
+        return strategy;
     }
 }
@@ -0,0 +1,37 @@
+package os.scheduling.strategy;
+
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+import os.scheduling.model.VirtualRuntimeProcessQueue;
+
+// CFS 방식: 가상 실행 시간이 가장 작은 프로세스를 실행하고,
+// 실행 중인 프로세스가 대기 중인 최솟값보다 할당 시간 이상 앞서면 교체한다
+public class CompletelyFairStrategy implements SchedulingStrategy {
+    @Override
+    public ProcessQueue createReadyQueue() {
+        return new VirtualRuntimeProcessQueue();
+    }
+
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
+        }
+        return currentProcess == null
+                || currentProcess.getVirtualRuntime() + currentProcessRunTick - readyQueue.peek().getVirtualRuntime() >= timeQuantum;
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return NO_PREEMPTION;
+        }
+        long ticks = readyQueue.peek().getVirtualRuntime() + timeQuantum - currentProcess.getVirtualRuntime() - currentProcessRunTick;
+        return (int) Math.min(NO_PREEMPTION, Math.max(0, ticks));
+    }
+
+    @Override
+    public void onPreempted(Process process, int ranTicks, int timeQuantum) {
+        process.setVirtualRuntime(process.getVirtualRuntime() + ranTicks);
+    }
+}
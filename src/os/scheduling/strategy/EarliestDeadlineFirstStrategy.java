@@ -0,0 +1,29 @@
+package os.scheduling.strategy;
+
+import os.scheduling.model.DeadlineProcessQueue;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+
+// 마감 시각이 가장 이른 프로세스를 실행하며, 더 급한 프로세스가 오면 선점한다
+public class EarliestDeadlineFirstStrategy implements SchedulingStrategy {
+    @Override
+    public ProcessQueue createReadyQueue() {
+        return new DeadlineProcessQueue();
+    }
+
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
+        }
+        return currentProcess == null || currentProcess.getDeadline() > readyQueue.peek().getDeadline();
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty() || currentProcess.getDeadline() <= readyQueue.peek().getDeadline()) {
+            return NO_PREEMPTION;
+        }
+        return 0;
+    }
+}
@@ -1,15 +1,17 @@
 package os.scheduling.strategy;
 
+import os.scheduling.model.FifoProcessQueue;
 import os.scheduling.model.Process;
-
-import java.util.List;
+import os.scheduling.model.ProcessQueue;
 
 public class FirstComeFirstServedStrategy implements SchedulingStrategy {
     @Override
-    public int selectNextProcessIndex(List<Process> readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
-        if (currentProcess != null || readyQueue.isEmpty()) {
-            return -1;
-        }
-        return 0;
+    public ProcessQueue createReadyQueue() {
+        return new FifoProcessQueue();
+    }
+
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        return currentProcess == null && !readyQueue.isEmpty();
     }
-}
\ No newline at end of file
+}
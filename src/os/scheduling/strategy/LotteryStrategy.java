@@ -0,0 +1,42 @@
+package os.scheduling.strategy;
+
+import os.scheduling.model.LotteryProcessQueue;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+
+// 추첨 스케줄링: 할당 시간마다 티켓 수에 비례한 확률로 다음 프로세스를 뽑는다
+public class LotteryStrategy implements SchedulingStrategy {
+    @Override
+    public ProcessQueue createReadyQueue() {
+        return createReadyQueue(0L);
+    }
+
+    @Override
+    public ProcessQueue createReadyQueue(long seed) {
+        return new LotteryProcessQueue(seed);
+    }
+
+    // 할당 시간이 끝날 때마다 실행 중인 프로세스도 함께 추첨한다. 실행 중인 프로세스가 당첨되면 할당 시간을 하나 더 돈다
+    // (당첨이 큐 쪽이면 dequeue 가 큐 안에서 다시 티켓 비례로 고르므로, 전체에서 티켓 비례로 뽑은 것과 같다)
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
+        }
+        if (currentProcess == null) {
+            return true;
+        }
+        return currentProcessRunTick > 0 && currentProcessRunTick % timeQuantum == 0
+                && ((LotteryProcessQueue) readyQueue).drawsOver(currentProcess);
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return NO_PREEMPTION;
+        }
+        // 할당 시간 경계에 막 닿았으면 다음 틱에 추첨한다
+        int ranInQuantum = currentProcessRunTick % timeQuantum;
+        return currentProcessRunTick > 0 && ranInQuantum == 0 ? 0 : timeQuantum - ranInQuantum;
+    }
+}
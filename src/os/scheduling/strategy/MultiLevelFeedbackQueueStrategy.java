@@ -0,0 +1,66 @@
+package os.scheduling.strategy;
+
+import os.scheduling.model.MultiLevelProcessQueue;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+
+// 다단계 피드백 큐: 할당 시간을 다 쓴 프로세스는 한 단계 내려가고, 단계가 내려갈수록 할당 시간은 두 배가 된다
+public class MultiLevelFeedbackQueueStrategy implements SchedulingStrategy {
+    private static final int LEVELS = 3;
+    private static final int AGING_DISPATCHES = 16;
+
+    @Override
+    public ProcessQueue createReadyQueue() {
+        return new MultiLevelProcessQueue(LEVELS, AGING_DISPATCHES);
+    }
+
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
+        }
+        if (currentProcess == null) {
+            return true;
+        }
+        int waitingLevel = readyQueue.peek().getPriorityLevel();
+        int currentLevel = currentProcess.getPriorityLevel();
+        // 더 높은 단계의 프로세스가 오면 바로 선점
+        if (waitingLevel < currentLevel) {
+            return true;
+        }
+        // 할당 시간을 다 쓰면 강등될 단계보다 높거나 같은 단계의 프로세스에게 양보
+        return currentProcessRunTick >= quantumOf(currentLevel, timeQuantum) && waitingLevel <= demotedLevel(currentLevel);
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return NO_PREEMPTION;
+        }
+        int waitingLevel = readyQueue.peek().getPriorityLevel();
+        int currentLevel = currentProcess.getPriorityLevel();
+        if (waitingLevel < currentLevel) {
+            return 0;
+        }
+        if (waitingLevel <= demotedLevel(currentLevel)) {
+            return Math.max(0, quantumOf(currentLevel, timeQuantum) - currentProcessRunTick);
+        }
+        return NO_PREEMPTION;
+    }
+
+    @Override
+    public void onPreempted(Process process, int ranTicks, int timeQuantum) {
+        int level = process.getPriorityLevel();
+        if (ranTicks >= quantumOf(level, timeQuantum)) {
+            process.setPriorityLevel(demotedLevel(level));
+        }
+    }
+
+    private static int quantumOf(int level, int timeQuantum) {
+        return timeQuantum << level;
+    }
+
+    private static int demotedLevel(int level) {
+        return Math.min(level + 1, LEVELS - 1);
+    }
+}
@@ -1,15 +1,25 @@
 package os.scheduling.strategy;
 
+import os.scheduling.model.FifoProcessQueue;
 import os.scheduling.model.Process;
-
-import java.util.List;
+import os.scheduling.model.ProcessQueue;
 
 public class RoundRobinStrategy implements SchedulingStrategy {
     @Override
-    public int selectNextProcessIndex(List<Process> readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
-        if ((currentProcess == null || currentProcessRunTick >= timeQuantum) && !readyQueue.isEmpty()) {
-            return 0;
+    public ProcessQueue createReadyQueue() {
+        return new FifoProcessQueue();
+    }
+
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        return (currentProcess == null || currentProcessRunTick >= timeQuantum) && !readyQueue.isEmpty();
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return NO_PREEMPTION;
         }
-        return -1;
+        return Math.max(0, timeQuantum - currentProcessRunTick);
     }
-}
\ No newline at end of file
+}
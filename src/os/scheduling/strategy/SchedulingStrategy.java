@@ -1,9 +1,32 @@
 package os.scheduling.strategy;
 
 import os.scheduling.model.Process;
-
-import java.util.List;
+import os.scheduling.model.ProcessQueue;
 
 public interface SchedulingStrategy {
-    int selectNextProcessIndex(List<Process> readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum);
-}
\ No newline at end of file
+    int NO_PREEMPTION = Integer.MAX_VALUE;
+
+    // 알고리즘에 맞는 준비 큐 자료구조 (dequeue 가 다음 실행할 프로세스를 돌려준다)
+    ProcessQueue createReadyQueue();
+
+    // 난수를 쓰는 큐(추첨 등)는 프로세서마다 다른 시드를 받는다
+    default ProcessQueue createReadyQueue(long seed) {
+        return createReadyQueue();
+    }
+
+    boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum);
+
+    // 준비 큐가 바뀌지 않는다고 가정할 때, 실행 중인 프로세스가 선점되기까지 남은 틱 수
+    default int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        return NO_PREEMPTION;
+    }
+
+    // 실행 중이던 프로세스가 준비 큐로 되돌아가기 직전에 호출된다 (가상 실행 시간, 단계 강등 등 갱신)
+    default void onPreempted(Process process, int ranTicks, int timeQuantum) {
+    }
+
+    // 실행 중이던 프로세스가 입출력을 시작해 프로세서를 내려놓을 때 호출된다 (기본은 선점과 같이 실행한 만큼 반영)
+    default void onBlocked(Process process, int ranTicks, int timeQuantum) {
+        onPreempted(process, ranTicks, timeQuantum);
+    }
+}
@@ -1,39 +1,31 @@
 package os.scheduling.strategy;
 
 import os.scheduling.model.Process;
-
-import java.util.Comparator;
-import java.util.List;
+import os.scheduling.model.ProcessQueue;
+import os.scheduling.model.RemainingTimeProcessQueue;
 
 public class ShortestRemainingJobFirstStrategy implements SchedulingStrategy {
     @Override
-    public int selectNextProcessIndex(List<Process> readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
-        if (readyQueue.isEmpty()) {
-            return -1;
-        }
-
-        int minIndex = findShortestRemainingJobIndex(readyQueue);
+    public ProcessQueue createReadyQueue() {
+        return new RemainingTimeProcessQueue();
+    }
 
-        if (currentProcess != null && !currentProcess.isFinished()
-                && currentProcess.getRemainingTime() <= readyQueue.get(minIndex).getRemainingTime()) {
-            return -1;
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
         }
 
-        return minIndex;
+        return currentProcess == null || currentProcess.isFinished()
+                || currentProcess.getRemainingTime() > readyQueue.peek().getRemainingTime();
     }
 
-    private int findShortestRemainingJobIndex(List<Process> readyQueue) {
-        int minIndex = -1;
-        int minRemainingTime = Integer.MAX_VALUE;
-
-        for (int i = 0; i < readyQueue.size(); i++) {
-            int remainingTime = readyQueue.get(i).getRemainingTime();
-            if (remainingTime < minRemainingTime) {
-                minRemainingTime = remainingTime;
-                minIndex = i;
-            }
+    // 실행할수록 남은 시간이 줄어드므로, 지금 더 짧은 프로세스가 기다리고 있을 때만 선점된다
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty() || currentProcess.getRemainingTime() <= readyQueue.peek().getRemainingTime()) {
+            return NO_PREEMPTION;
         }
-
-        return minIndex;
+        return 0;
     }
 }
@@ -0,0 +1,54 @@
+package os.scheduling.strategy;
+
+import os.scheduling.model.PassProcessQueue;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessQueue;
+
+// 보폭 스케줄링: 추첨과 같은 비율을 결정적으로 나눠 준다
+// 실행한 틱마다 pass 가 보폭(STRIDE1 / 티켓 수)만큼 늘고, pass 가 가장 작은 프로세스가 실행된다
+public class StrideStrategy implements SchedulingStrategy {
+    private static final long STRIDE1 = 1L << 20;
+
+    @Override
+    public ProcessQueue createReadyQueue() {
+        return new PassProcessQueue();
+    }
+
+    // 할당 시간이 끝났을 때 대기 중인 pass 가 실행 중인 프로세스의 pass 이하일 때만 교체한다
+    @Override
+    public boolean shouldSwitchProcess(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return false;
+        }
+        if (currentProcess == null) {
+            return true;
+        }
+        return currentProcessRunTick >= timeQuantum
+                && readyQueue.peek().getPass() <= passAfter(currentProcess, currentProcessRunTick);
+    }
+
+    @Override
+    public int ticksUntilPreemption(ProcessQueue readyQueue, Process currentProcess, int currentProcessRunTick, int timeQuantum) {
+        if (readyQueue.isEmpty()) {
+            return NO_PREEMPTION;
+        }
+        long stride = strideOf(currentProcess);
+        long gap = readyQueue.peek().getPass() - currentProcess.getPass();
+        long ticksToCatchUp = gap <= 0 ? 0 : (gap + stride - 1) / stride;
+        long switchTick = Math.max(timeQuantum, ticksToCatchUp);
+        return (int) Math.min(NO_PREEMPTION, Math.max(0, switchTick - currentProcessRunTick));
+    }
+
+    @Override
+    public void onPreempted(Process process, int ranTicks, int timeQuantum) {
+        process.setPass(passAfter(process, ranTicks));
+    }
+
+    private static long passAfter(Process process, int ranTicks) {
+        return process.getPass() + strideOf(process) * ranTicks;
+    }
+
+    private static long strideOf(Process process) {
+        return STRIDE1 / process.getTickets();
+    }
+}
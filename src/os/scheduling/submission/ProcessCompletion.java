@@ -0,0 +1,17 @@
+package os.scheduling.submission;
+
+// 제출한 프로세스가 끝났을 때 넘겨주는 결과. Process 핸들은 종료 후 재사용되므로 값만 복사해 둔다
+public record ProcessCompletion(int processId, int arrivalTime, int firstRunTime, int completionTime, int runTime) {
+
+    public int turnaroundTime() {
+        return completionTime - arrivalTime;
+    }
+
+    public int waitingTime() {
+        return turnaroundTime() - runTime;
+    }
+
+    public int responseTime() {
+        return firstRunTime - arrivalTime;
+    }
+}
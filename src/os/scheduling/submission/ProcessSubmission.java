@@ -0,0 +1,6 @@
+package os.scheduling.submission;
+
+import java.util.concurrent.CompletableFuture;
+
+public record ProcessSubmission(int processId, int[] requiredResources, int runTime, CompletableFuture<ProcessCompletion> completion) {
+}
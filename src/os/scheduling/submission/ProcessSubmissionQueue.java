@@ -0,0 +1,136 @@
+package os.scheduling.submission;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// 실행 중인 시뮬레이터에 여러 스레드가 프로세스를 제출하는 큐 (생산자 여럿, 소비자는 시뮬레이터 스레드 하나)
+// 시뮬레이터는 매 틱 시작에 쌓인 제출을 한꺼번에 꺼내 그 틱에 도착한 것으로 처리한다
+// 제출한 뒤 아직 프로세서에 배정되지 않은 프로세스가 backlogLimit 개면 자리가 날 때까지 submit 이 기다린다
+public class ProcessSubmissionQueue {
+    private final ConcurrentLinkedQueue<ProcessSubmission> queue = new ConcurrentLinkedQueue<>();
+    private final int[] totalResources;
+    private final int backlogLimit;
+    private final Semaphore backlogPermits;
+    private final AtomicInteger nextProcessId;
+    // close 와 겹친 제출이 큐에 들어가는 중인지 소비자가 알 수 있도록 제출 중인 스레드 수를 센다
+    private final AtomicInteger activeSubmitters = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread parkedConsumer;
+
+    public ProcessSubmissionQueue(int[] totalResources, int backlogLimit, int firstProcessId) {
+        if (backlogLimit <= 0) {
+            throw new IllegalArgumentException("Backlog limit must be positive: " + backlogLimit);
+        }
+        this.totalResources = Arrays.copyOf(totalResources, totalResources.length);
+        this.backlogLimit = backlogLimit;
+        this.backlogPermits = new Semaphore(backlogLimit);
+        this.nextProcessId = new AtomicInteger(firstProcessId);
+    }
+
+    // 결과는 시뮬레이터 스레드에서 완료되므로, 오래 걸리는 후속 작업은 thenApplyAsync 등으로 다른 스레드에 넘긴다
+    public CompletableFuture<ProcessCompletion> submit(int[] requiredResources, int runTime) throws InterruptedException {
+        validate(requiredResources, runTime);
+        backlogPermits.acquire();
+        return enqueue(requiredResources, runTime);
+    }
+
+    // 자리가 없으면 기다리지 않고 null
+    public CompletableFuture<ProcessCompletion> trySubmit(int[] requiredResources, int runTime) {
+        validate(requiredResources, runTime);
+        if (!backlogPermits.tryAcquire()) {
+            return null;
+        }
+        return enqueue(requiredResources, runTime);
+    }
+
+    // 더 이상 제출을 받지 않는다. 이미 제출한 프로세스는 끝까지 실행되며, 자리를 기다리던 제출은 거절된다
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        backlogPermits.release(Integer.MAX_VALUE - backlogLimit);
+        wakeConsumer();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int getBacklogLimit() {
+        return backlogLimit;
+    }
+
+    // 이하 시뮬레이터 스레드 전용
+    public ProcessSubmission poll() {
+        return queue.poll();
+    }
+
+    // 닫혔고 큐에 남은 제출도, 큐에 넣는 중인 제출도 없으면 더 올 것이 없다
+    public boolean isDrained() {
+        return closed.get() && activeSubmitters.get() == 0 && queue.isEmpty();
+    }
+
+    // 제출한 프로세스가 대기 목록을 떠나 프로세서에 배정되었다
+    public void admitted() {
+        if (!closed.get()) {
+            backlogPermits.release();
+        }
+    }
+
+    // 할 일이 없을 때 다음 제출이 오거나 큐가 닫힐 때까지 기다린다
+    public void awaitSubmission() {
+        parkedConsumer = Thread.currentThread();
+        try {
+            while (queue.isEmpty() && !isDrained()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new IllegalStateException("Interrupted while waiting for submissions");
+                }
+            }
+        } finally {
+            parkedConsumer = null;
+        }
+    }
+
+    private CompletableFuture<ProcessCompletion> enqueue(int[] requiredResources, int runTime) {
+        activeSubmitters.incrementAndGet();
+        try {
+            if (closed.get()) {
+                throw new IllegalStateException("Submission queue is closed");
+            }
+            CompletableFuture<ProcessCompletion> completion = new CompletableFuture<>();
+            queue.offer(new ProcessSubmission(nextProcessId.getAndIncrement(), Arrays.copyOf(requiredResources, requiredResources.length), runTime, completion));
+            return completion;
+        } finally {
+            activeSubmitters.decrementAndGet();
+            wakeConsumer();
+        }
+    }
+
+    private void wakeConsumer() {
+        Thread consumer = parkedConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // 전체 자원보다 많이 요구하면 시뮬레이션이 해결 불가로 끝나므로 제출 단계에서 거절한다
+    private void validate(int[] requiredResources, int runTime) {
+        if (requiredResources.length != totalResources.length) {
+            throw new IllegalArgumentException("Expected " + totalResources.length + " resource types but got " + requiredResources.length);
+        }
+        if (runTime <= 0) {
+            throw new IllegalArgumentException("Run time must be positive: " + runTime);
+        }
+        for (int j = 0; j < totalResources.length; j++) {
+            if (requiredResources[j] < 0 || requiredResources[j] > totalResources[j]) {
+                throw new IllegalArgumentException("Resource type " + j + " request " + requiredResources[j] + " is outside 0.." + totalResources[j]);
+            }
+        }
+    }
+}
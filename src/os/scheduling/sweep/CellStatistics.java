@@ -0,0 +1,72 @@
+package os.scheduling.sweep;
+
+import os.scheduling.SimulationResult;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.metrics.LogHistogram;
+import os.scheduling.metrics.SimulationMetrics;
+
+import java.util.Arrays;
+
+// 한 셀(같은 설정, 여러 시드)의 실행 결과 집계. 여러 작업 스레드가 동시에 add 한다
+// 실행별 지표를 히스토그램으로 합치므로 셀당 메모리는 실행 수, 작업량과 무관하다
+class CellStatistics {
+    static final String CSV_HEADER = "processors,algorithm,timeQuantum,resources,processes,placement,admission,runs,"
+            + "meanTurnaround,p50Turnaround,p95Turnaround,p99Turnaround,meanWaiting,p99Waiting,meanResponse,p99Response,"
+            + "utilization,ioUtilization,contextSwitchesPerRun,stolenPerRun,overheadFraction,migrationsPerRun,deadlineMissRate,admissionChecksPerRun,deadlocksPerRun,rollbacksPerRun,"
+            + "meanThroughput,unsolvableRate";
+
+    private final SimulationConfig config;
+    private final SimulationMetrics metrics;
+    private int runs = 0;
+    private int unsolvableRuns = 0;
+    private double throughputSum = 0;
+
+    CellStatistics(SimulationConfig config) {
+        this.config = config;
+        this.metrics = new SimulationMetrics(config.getNumProcessors());
+    }
+
+    synchronized void add(SimulationResult result) {
+        runs++;
+        if (!result.isSolvable()) {
+            unsolvableRuns++;
+        }
+        throughputSum += result.throughput();
+        metrics.merge(result.metrics());
+    }
+
+    synchronized String toCsvRow() {
+        LogHistogram turnaroundTimes = metrics.getTurnaroundTimes();
+        LogHistogram waitingTimes = metrics.getWaitingTimes();
+        LogHistogram responseTimes = metrics.getResponseTimes();
+        return String.format("%d,%s,%d,%s,%d,%s,%s,%d,%.3f,%d,%d,%d,%.3f,%d,%.3f,%d,%.4f,%.4f,%.2f,%.2f,%.4f,%.2f,%.4f,%.1f,%.3f,%.3f,%.5f,%.4f",
+                config.getNumProcessors(),
+                config.getSchedulingAlgorithm(),
+                config.getTimeQuantum(),
+                Arrays.toString(config.getGivenResources()).replaceAll("[\\[\\],]", ""),
+                config.getNumProcesses(),
+                config.getPlacementAlgorithm(),
+                config.getAdmissionMode(),
+                runs,
+                turnaroundTimes.getMean(),
+                turnaroundTimes.getValueAtPercentile(50),
+                turnaroundTimes.getValueAtPercentile(95),
+                turnaroundTimes.getValueAtPercentile(99),
+                waitingTimes.getMean(),
+                waitingTimes.getValueAtPercentile(99),
+                responseTimes.getMean(),
+                responseTimes.getValueAtPercentile(99),
+                metrics.getUtilization(),
+                metrics.getIoUtilization(),
+                runs == 0 ? 0 : (double) metrics.getTotalContextSwitches() / runs,
+                runs == 0 ? 0 : (double) metrics.getTotalStolenProcesses() / runs,
+                metrics.getOverheadFraction(),
+                runs == 0 ? 0 : (double) metrics.getTotalMigrations() / runs,
+                metrics.getDeadlineMissRate(),
+                runs == 0 ? 0 : (double) metrics.getAdmissionChecks() / runs,
+                runs == 0 ? 0 : (double) metrics.getDeadlocks() / runs,
+                runs == 0 ? 0 : (double) metrics.getRollbacks() / runs,
+                runs == 0 ? 0 : throughputSum / runs,
+                runs == 0 ? 0 : (double) unsolvableRuns / runs);
+    }
+}
@@ -0,0 +1,49 @@
+package os.scheduling.sweep;
+
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.enums.SchedulingAlgorithm;
+import os.scheduling.enums.TraceMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 설정값 목록들의 데카르트 곱으로 실험 셀을 만든다
+public record SweepGrid(List<Integer> processorCounts,
+                        List<SchedulingAlgorithm> algorithms,
+                        List<Integer> timeQuanta,
+                        List<int[]> resourceVectors,
+                        List<Integer> workloadSizes,
+                        List<PlacementAlgorithm> placementAlgorithms,
+                        List<AdmissionMode> admissionModes) {
+
+    public List<SimulationConfig> cells(SimulationConfig base) {
+        List<SimulationConfig> cells = new ArrayList<>();
+        for (int processorCount : processorCounts) {
+            for (SchedulingAlgorithm algorithm : algorithms) {
+                for (int timeQuantum : timeQuanta) {
+                    for (int[] resources : resourceVectors) {
+                        for (int workloadSize : workloadSizes) {
+                            for (PlacementAlgorithm placementAlgorithm : placementAlgorithms) {
+                                for (AdmissionMode admissionMode : admissionModes) {
+                                    cells.add(base.toBuilder()
+                                            .numProcessors(processorCount)
+                                            .schedulingAlgorithm(algorithm)
+                                            .timeQuantum(timeQuantum)
+                                            .givenResources(resources)
+                                            .numProcesses(workloadSize)
+                                            .placementAlgorithm(placementAlgorithm)
+                                            .admissionMode(admissionMode)
+                                            .traceMode(TraceMode.OFF)
+                                            .build());
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,110 @@
+package os.scheduling.sweep;
+
+import os.scheduling.ProcessSimulator;
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.enums.AdmissionMode;
+import os.scheduling.enums.PlacementAlgorithm;
+import os.scheduling.enums.SchedulingAlgorithm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 설정 셀마다 여러 시드로 시뮬레이션을 돌리고 셀별 집계를 CSV 로 내보낸다
+// 각 실행은 자신만의 ProcessSimulator 인스턴스를 사용하므로 실행 간에 공유하는 가변 상태가 없다
+public class SweepRunner {
+    private final List<SimulationConfig> cells;
+    private final int seedsPerCell;
+    private final long baseSeed;
+    private final int parallelism;
+
+    public SweepRunner(List<SimulationConfig> cells, int seedsPerCell, long baseSeed, int parallelism) {
+        if (seedsPerCell <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("seedsPerCell and parallelism must be positive");
+        }
+        this.cells = List.copyOf(cells);
+        this.seedsPerCell = seedsPerCell;
+        this.baseSeed = baseSeed;
+        this.parallelism = parallelism;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path output = Path.of(args.length > 0 ? args[0] : "sweep.csv");
+        int seedsPerCell = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        SweepGrid grid = new SweepGrid(
+                List.of(2, 4, 8),
+                List.of(SchedulingAlgorithm.values()),
+                List.of(2, 4),
+                List.of(new int[]{5, 5, 5, 5, 5}, new int[]{10, 10, 10, 10, 10}),
+                List.of(8, 100),
+                List.of(PlacementAlgorithm.values()),
+                List.of(AdmissionMode.values())
+        );
+        SweepRunner runner = new SweepRunner(grid.cells(SimulationConfig.defaults()), seedsPerCell, 1L,
+                Runtime.getRuntime().availableProcessors());
+        try (Writer writer = Files.newBufferedWriter(output)) {
+            runner.run(writer);
+        }
+        System.out.println("Sweep written to " + output.toAbsolutePath());
+    }
+
+    // 같은 실행 번호는 모든 셀에서 같은 시드를 쓰므로 셀 간 비교 시 분산이 줄어든다
+    public long seedOf(int run) {
+        return baseSeed + run;
+    }
+
+    public void run(Writer writer) throws IOException, InterruptedException {
+        List<CellStatistics> statistics = new ArrayList<>(cells.size());
+        List<CountDownLatch> latches = new ArrayList<>(cells.size());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            for (SimulationConfig cell : cells) {
+                CellStatistics cellStatistics = new CellStatistics(cell);
+                CountDownLatch latch = new CountDownLatch(seedsPerCell);
+                statistics.add(cellStatistics);
+                latches.add(latch);
+                for (int run = 0; run < seedsPerCell; run++) {
+                    SimulationConfig runConfig = cell.toBuilder().seed(seedOf(run)).build();
+                    executor.execute(() -> {
+                        try {
+                            cellStatistics.add(new ProcessSimulator(runConfig).simulate());
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+            }
+
+            // 셀 순서대로 끝나는 즉시 한 줄씩 기록
+            BufferedWriter out = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+            out.write(CellStatistics.CSV_HEADER);
+            out.newLine();
+            for (int i = 0; i < cells.size(); i++) {
+                latches.get(i).await();
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                out.write(statistics.get(i).toCsvRow());
+                out.newLine();
+                out.flush();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
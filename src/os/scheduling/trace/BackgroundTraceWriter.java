@@ -0,0 +1,149 @@
+package os.scheduling.trace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 시뮬레이션 스레드는 고정 크기 청크에 바이트를 채우기만 하고, 실제 쓰기는 별도 스레드가 맡는다
+// 대기 청크 수가 상한에 닿으면 생산자가 기다리므로 메모리 사용량이 제한된다. 다 쓴 청크는 재사용한다
+final class BackgroundTraceWriter implements AutoCloseable {
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final int DEFAULT_MAX_PENDING_CHUNKS = 8;
+    private static final Chunk END_OF_STREAM = new Chunk(new byte[0], 0);
+
+    private record Chunk(byte[] bytes, int length) {
+    }
+
+    private final OutputStream out;
+    private final boolean closeOutput;
+    private final BlockingQueue<Chunk> pendingChunks;
+    private final BlockingQueue<byte[]> freeChunks;
+    private final Thread writerThread;
+    private volatile IOException failure;
+    private byte[] chunk;
+    private int position = 0;
+    private boolean isClosed = false;
+
+    BackgroundTraceWriter(OutputStream out, boolean closeOutput) {
+        this(out, closeOutput, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_PENDING_CHUNKS);
+    }
+
+    BackgroundTraceWriter(OutputStream out, boolean closeOutput, int chunkSize, int maxPendingChunks) {
+        this.out = out;
+        this.closeOutput = closeOutput;
+        this.pendingChunks = new ArrayBlockingQueue<>(maxPendingChunks + 1);
+        this.freeChunks = new ArrayBlockingQueue<>(maxPendingChunks + 1);
+        this.chunk = new byte[chunkSize];
+        this.writerThread = new Thread(this::drain, "trace-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    void write(int b) {
+        if (position == chunk.length) {
+            submitChunk();
+        }
+        chunk[position++] = (byte) b;
+    }
+
+    void writeInt(int value) {
+        write(value >>> 24);
+        write(value >>> 16);
+        write(value >>> 8);
+        write(value);
+    }
+
+    // 부호 있는 값은 지그재그 변환 후 7비트씩 가변 길이로 기록
+    void writeVarLong(long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            write((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        write((int) zigZag);
+    }
+
+    // 출력 문자열은 모두 ASCII
+    void writeAscii(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (position > 0) {
+            submitChunk();
+        }
+        put(END_OF_STREAM);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkFailure();
+    }
+
+    private void submitChunk() {
+        checkFailure();
+        put(new Chunk(chunk, position));
+        byte[] recycled = freeChunks.poll();
+        chunk = recycled != null ? recycled : new byte[chunk.length];
+        position = 0;
+    }
+
+    private void put(Chunk pending) {
+        try {
+            pendingChunks.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing trace", e);
+        }
+    }
+
+    // 쓰기에 실패해도 생산자가 막히지 않도록 끝까지 청크를 비운다. 실패는 다음 제출이나 close 에서 전달
+    private void drain() {
+        while (true) {
+            Chunk pending;
+            try {
+                pending = pendingChunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (pending == END_OF_STREAM) {
+                break;
+            }
+            if (failure == null) {
+                try {
+                    out.write(pending.bytes(), 0, pending.length());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            freeChunks.offer(pending.bytes());
+        }
+        try {
+            out.flush();
+            if (closeOutput) {
+                out.close();
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Trace writer failed", failure);
+        }
+    }
+}
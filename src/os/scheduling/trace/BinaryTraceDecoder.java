@@ -0,0 +1,171 @@
+package os.scheduling.trace;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// BinaryTraceSink 가 남긴 로그를 텍스트 출력과 같은 표로 되돌린다
+public class BinaryTraceDecoder {
+    private final DataInputStream in;
+    private final PrintStream out;
+    private final StringBuilder line = new StringBuilder(128);
+    private int numProcessors;
+    private int numOfResourceTypes;
+    private boolean hasRunDescription;
+
+    public BinaryTraceDecoder(InputStream in, PrintStream out) {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        this.out = out;
+    }
+
+    // 사용법: BinaryTraceDecoder <trace.bin>
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: BinaryTraceDecoder <trace.bin>");
+            return;
+        }
+        try (InputStream input = Files.newInputStream(Path.of(args[0]))) {
+            new BinaryTraceDecoder(input, System.out).decode();
+        }
+        System.out.flush();
+    }
+
+    public void decode() throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != BinaryTraceSink.MAGIC
+                || (version != BinaryTraceSink.VERSION && version != BinaryTraceSink.VERSION_WITHOUT_RUN_DESCRIPTION)) {
+            throw new IOException("Not a binary tick log");
+        }
+        hasRunDescription = version == BinaryTraceSink.VERSION;
+        numProcessors = in.readInt();
+        numOfResourceTypes = in.readInt();
+
+        int tag;
+        while ((tag = in.read()) != -1) {
+            switch (tag) {
+                case BinaryTraceSink.TAG_GENERATED_HEADER -> TraceTableFormat.appendGeneratedHeader(line);
+                case BinaryTraceSink.TAG_DISPATCH -> decodeDispatch();
+                case BinaryTraceSink.TAG_SIMULATION_START -> decodeSimulationStart();
+                case BinaryTraceSink.TAG_TICK_BLOCK -> decodeTickBlock();
+                case BinaryTraceSink.TAG_UNSOLVABLE -> TraceTableFormat.appendUnsolvable(line);
+                case BinaryTraceSink.TAG_ERROR -> TraceTableFormat.appendError(line);
+                case BinaryTraceSink.TAG_FINISH -> TraceTableFormat.appendFinish(line);
+                case BinaryTraceSink.TAG_SUMMARY -> decodeSummary();
+                default -> throw new IOException("Unknown record tag " + tag);
+            }
+            out.append(line);
+            line.setLength(0);
+        }
+    }
+
+    private void decodeDispatch() throws IOException {
+        int processId = readVarInt();
+        int dispatchTime = readVarInt();
+        int runTime = readVarInt();
+        int[] resources = new int[readVarInt()];
+        for (int j = 0; j < resources.length; j++) {
+            resources[j] = readVarInt();
+        }
+        TraceTableFormat.appendDispatch(line, processId, dispatchTime, runTime, resources);
+    }
+
+    private void decodeSimulationStart() throws IOException {
+        if (hasRunDescription) {
+            StringBuilder runDescription = new StringBuilder();
+            readAscii(runDescription);
+            TraceTableFormat.appendRunDescription(line, runDescription.toString());
+        }
+        TraceTableFormat.appendTableHeader(line);
+    }
+
+    private void decodeSummary() throws IOException {
+        readAscii(line);
+    }
+
+    private void readAscii(StringBuilder target) throws IOException {
+        int length = readVarInt();
+        for (int i = 0; i < length; i++) {
+            int c = in.read();
+            if (c == -1) {
+                throw new EOFException("Truncated tick log");
+            }
+            target.append((char) c);
+        }
+    }
+
+    // 열 단위로 읽은 뒤 틱마다 행을 조립한다
+    private void decodeTickBlock() throws IOException {
+        int blockSize = readVarInt();
+        int[] times = new int[blockSize];
+        int previousTime = 0;
+        for (int t = 0; t < blockSize; t++) {
+            previousTime += readVarInt();
+            times[t] = previousTime;
+        }
+        int[][] currentProcessIds = new int[blockSize][numProcessors];
+        for (int i = 0; i < numProcessors; i++) {
+            for (int t = 0; t < blockSize; t++) {
+                currentProcessIds[t][i] = BinaryTraceSink.decodeProcessId(readVarLong());
+            }
+        }
+        int[][] readyQueueSizes = new int[blockSize][numProcessors];
+        for (int i = 0; i < numProcessors; i++) {
+            for (int t = 0; t < blockSize; t++) {
+                readyQueueSizes[t][i] = readVarInt();
+            }
+        }
+        int[] waitingCounts = new int[blockSize];
+        for (int t = 0; t < blockSize; t++) {
+            waitingCounts[t] = readVarInt();
+        }
+        int[][] waitingIds = new int[blockSize][TraceTableFormat.SHOWN_WAITING_IDS];
+        for (int t = 0; t < blockSize; t++) {
+            int shown = Math.min(waitingCounts[t], TraceTableFormat.SHOWN_WAITING_IDS);
+            int previousId = 0;
+            for (int k = 0; k < shown; k++) {
+                previousId += readVarInt();
+                waitingIds[t][k] = previousId;
+            }
+        }
+        int[][] resources = new int[blockSize][numOfResourceTypes];
+        for (int j = 0; j < numOfResourceTypes; j++) {
+            for (int t = 0; t < blockSize; t++) {
+                resources[t][j] = readVarInt();
+            }
+        }
+
+        for (int t = 0; t < blockSize; t++) {
+            TraceTableFormat.appendRow(line, numProcessors, times[t], currentProcessIds[t], readyQueueSizes[t],
+                    waitingCounts[t], waitingIds[t], resources[t]);
+            out.append(line);
+            line.setLength(0);
+        }
+    }
+
+    private int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    private long readVarLong() throws IOException {
+        long zigZag = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Truncated tick log");
+            }
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
@@ -0,0 +1,199 @@
+package os.scheduling.trace;
+
+import os.scheduling.metrics.SimulationMetrics;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.Processor;
+
+import java.io.OutputStream;
+import java.util.List;
+
+// 틱 로그를 블록 단위 열 지향 형식으로 기록한다. 값은 모두 지그재그 가변 길이 정수
+// 헤더: MAGIC, VERSION, 프로세서 수, 자원 종류 수 (4바이트 int)
+// 레코드: 1바이트 태그 + 내용. 틱 블록은 틱 수, 시각(차분), 프로세서별 현재 프로세스, 프로세서별 준비 큐 크기,
+//        대기 큐 크기, 대기 프로세스 ID(틱마다 최대 8개, 차분), 자원 종류별 남은 자원 순으로 열을 이어 쓴다
+public class BinaryTraceSink implements TraceSink {
+    static final int MAGIC = 0x5053544C;
+    static final int VERSION = 2;
+    // 버전 1 은 시작 레코드에 실행 설명이 없다
+    static final int VERSION_WITHOUT_RUN_DESCRIPTION = 1;
+    static final int TAG_GENERATED_HEADER = 1;
+    static final int TAG_DISPATCH = 2;
+    static final int TAG_SIMULATION_START = 3;
+    static final int TAG_TICK_BLOCK = 4;
+    static final int TAG_UNSOLVABLE = 5;
+    static final int TAG_ERROR = 6;
+    static final int TAG_FINISH = 7;
+    static final int TAG_SUMMARY = 8;
+    static final int BLOCK_TICKS = 1024;
+
+    private final BackgroundTraceWriter writer;
+    private final int numProcessors;
+    private final int numOfResourceTypes;
+    private final TickRow row;
+
+    // 블록 버퍼 (열 단위)
+    private final int[] times = new int[BLOCK_TICKS];
+    private final int[] currentProcessIds;
+    private final int[] readyQueueSizes;
+    private final int[] waitingCounts = new int[BLOCK_TICKS];
+    private final int[] waitingIds = new int[BLOCK_TICKS * TraceTableFormat.SHOWN_WAITING_IDS];
+    private final int[] resources;
+    private int blockSize = 0;
+    private int waitingIdCount = 0;
+
+    public BinaryTraceSink(OutputStream out, boolean closeOutput, int numProcessors, int numOfResourceTypes) {
+        this.writer = new BackgroundTraceWriter(out, closeOutput);
+        this.numProcessors = numProcessors;
+        this.numOfResourceTypes = numOfResourceTypes;
+        this.row = new TickRow(numProcessors, numOfResourceTypes);
+        this.currentProcessIds = new int[numProcessors * BLOCK_TICKS];
+        this.readyQueueSizes = new int[numProcessors * BLOCK_TICKS];
+        this.resources = new int[numOfResourceTypes * BLOCK_TICKS];
+        writer.writeInt(MAGIC);
+        writer.writeInt(VERSION);
+        writer.writeInt(numProcessors);
+        writer.writeInt(numOfResourceTypes);
+    }
+
+    @Override
+    public void generatedDispatchesStarted() {
+        writeTag(TAG_GENERATED_HEADER);
+    }
+
+    @Override
+    public void generatedDispatch(ProcessDispatch dispatch) {
+        writeTag(TAG_DISPATCH);
+        writer.writeVarLong(dispatch.processId());
+        writer.writeVarLong(dispatch.dispatchTime());
+        writer.writeVarLong(dispatch.runTime());
+        writer.writeVarLong(dispatch.resources().length);
+        for (int resource : dispatch.resources()) {
+            writer.writeVarLong(resource);
+        }
+    }
+
+    @Override
+    public void simulationStarted(String runDescription) {
+        writeTag(TAG_SIMULATION_START);
+        writer.writeVarLong(runDescription.length());
+        writer.writeAscii(runDescription);
+    }
+
+    @Override
+    public void tick(int currentTime, List<Processor> processors, List<Process> waitingProcesses, int[] currentResources) {
+        row.capture(currentTime, processors, waitingProcesses, currentResources);
+        int t = blockSize;
+        times[t] = row.currentTime;
+        for (int i = 0; i < numProcessors; i++) {
+            currentProcessIds[i * BLOCK_TICKS + t] = row.currentProcessIds[i];
+            readyQueueSizes[i * BLOCK_TICKS + t] = row.readyQueueSizes[i];
+        }
+        waitingCounts[t] = row.waitingCount;
+        int shown = Math.min(row.waitingCount, TraceTableFormat.SHOWN_WAITING_IDS);
+        System.arraycopy(row.waitingIds, 0, waitingIds, waitingIdCount, shown);
+        waitingIdCount += shown;
+        for (int j = 0; j < numOfResourceTypes; j++) {
+            resources[j * BLOCK_TICKS + t] = row.currentResources[j];
+        }
+        blockSize++;
+        if (blockSize == BLOCK_TICKS) {
+            flushBlock();
+        }
+    }
+
+    @Override
+    public void unsolvable() {
+        writeTag(TAG_UNSOLVABLE);
+    }
+
+    @Override
+    public void error() {
+        writeTag(TAG_ERROR);
+    }
+
+    @Override
+    public void finished() {
+        writeTag(TAG_FINISH);
+    }
+
+    // 요약은 한 번만 나오므로 완성된 텍스트를 그대로 기록
+    @Override
+    public void summary(SimulationMetrics metrics) {
+        String report = metrics.toReport();
+        writeTag(TAG_SUMMARY);
+        writer.writeVarLong(report.length());
+        writer.writeAscii(report);
+    }
+
+    @Override
+    public void close() {
+        flushBlock();
+        writer.close();
+    }
+
+    // 다른 레코드보다 먼저 쌓인 틱 블록을 내보내야 복원 시 순서가 유지된다
+    private void writeTag(int tag) {
+        flushBlock();
+        writer.write(tag);
+    }
+
+    private void flushBlock() {
+        if (blockSize == 0) {
+            return;
+        }
+        writer.write(TAG_TICK_BLOCK);
+        writer.writeVarLong(blockSize);
+        int previousTime = 0;
+        for (int t = 0; t < blockSize; t++) {
+            writer.writeVarLong((long) times[t] - previousTime);
+            previousTime = times[t];
+        }
+        for (int i = 0; i < numProcessors; i++) {
+            for (int t = 0; t < blockSize; t++) {
+                int processId = currentProcessIds[i * BLOCK_TICKS + t];
+                writer.writeVarLong(encodeProcessId(processId));
+            }
+        }
+        for (int i = 0; i < numProcessors; i++) {
+            for (int t = 0; t < blockSize; t++) {
+                writer.writeVarLong(readyQueueSizes[i * BLOCK_TICKS + t]);
+            }
+        }
+        for (int t = 0; t < blockSize; t++) {
+            writer.writeVarLong(waitingCounts[t]);
+        }
+        // 대기 ID 는 대부분 오름차순이므로 틱 안에서 앞 ID 와의 차이를 기록
+        int k = 0;
+        for (int t = 0; t < blockSize; t++) {
+            int shown = Math.min(waitingCounts[t], TraceTableFormat.SHOWN_WAITING_IDS);
+            int previousId = 0;
+            for (int w = 0; w < shown; w++, k++) {
+                writer.writeVarLong((long) waitingIds[k] - previousId);
+                previousId = waitingIds[k];
+            }
+        }
+        for (int j = 0; j < numOfResourceTypes; j++) {
+            for (int t = 0; t < blockSize; t++) {
+                writer.writeVarLong(resources[j * BLOCK_TICKS + t]);
+            }
+        }
+        blockSize = 0;
+        waitingIdCount = 0;
+    }
+
+    // 빈 프로세서는 0, 0 이상인 ID 는 한 칸 밀어서 기록
+    static long encodeProcessId(int processId) {
+        if (processId == TraceTableFormat.NO_PROCESS) {
+            return 0;
+        }
+        return processId >= 0 ? processId + 1L : processId;
+    }
+
+    static int decodeProcessId(long encoded) {
+        if (encoded == 0) {
+            return TraceTableFormat.NO_PROCESS;
+        }
+        return (int) (encoded > 0 ? encoded - 1 : encoded);
+    }
+}
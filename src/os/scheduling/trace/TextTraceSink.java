@@ -0,0 +1,80 @@
+package os.scheduling.trace;
+
+import os.scheduling.metrics.SimulationMetrics;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.Processor;
+
+import java.io.OutputStream;
+import java.util.List;
+
+// 기존 콘솔 표 형식을 그대로 출력한다
+public class TextTraceSink implements TraceSink {
+    private final BackgroundTraceWriter writer;
+    private final TickRow row;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public TextTraceSink(OutputStream out, boolean closeOutput, int numProcessors, int numOfResourceTypes) {
+        this.writer = new BackgroundTraceWriter(out, closeOutput);
+        this.row = new TickRow(numProcessors, numOfResourceTypes);
+    }
+
+    @Override
+    public void generatedDispatchesStarted() {
+        TraceTableFormat.appendGeneratedHeader(line);
+        flushLine();
+    }
+
+    @Override
+    public void generatedDispatch(ProcessDispatch dispatch) {
+        TraceTableFormat.appendDispatch(line, dispatch.processId(), dispatch.dispatchTime(), dispatch.runTime(), dispatch.resources());
+        flushLine();
+    }
+
+    @Override
+    public void simulationStarted(String runDescription) {
+        TraceTableFormat.appendRunDescription(line, runDescription);
+        TraceTableFormat.appendTableHeader(line);
+        flushLine();
+    }
+
+    @Override
+    public void tick(int currentTime, List<Processor> processors, List<Process> waitingProcesses, int[] currentResources) {
+        row.capture(currentTime, processors, waitingProcesses, currentResources);
+        row.appendTo(line);
+        flushLine();
+    }
+
+    @Override
+    public void unsolvable() {
+        TraceTableFormat.appendUnsolvable(line);
+        flushLine();
+    }
+
+    @Override
+    public void error() {
+        TraceTableFormat.appendError(line);
+        flushLine();
+    }
+
+    @Override
+    public void finished() {
+        TraceTableFormat.appendFinish(line);
+        flushLine();
+    }
+
+    @Override
+    public void summary(SimulationMetrics metrics) {
+        writer.writeAscii(metrics.toReport());
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    private void flushLine() {
+        writer.writeAscii(line);
+        line.setLength(0);
+    }
+}
@@ -0,0 +1,43 @@
+package os.scheduling.trace;
+
+import os.scheduling.model.Process;
+import os.scheduling.model.Processor;
+
+import java.util.List;
+
+// 한 틱의 출력 내용을 기본형 배열로 옮겨 둔다 (매 틱 재사용)
+final class TickRow {
+    int currentTime;
+    final int[] currentProcessIds;
+    final int[] readyQueueSizes;
+    int waitingCount;
+    final int[] waitingIds = new int[TraceTableFormat.SHOWN_WAITING_IDS];
+    final int[] currentResources;
+
+    TickRow(int numProcessors, int numOfResourceTypes) {
+        this.currentProcessIds = new int[numProcessors];
+        this.readyQueueSizes = new int[numProcessors];
+        this.currentResources = new int[numOfResourceTypes];
+    }
+
+    void capture(int currentTime, List<Processor> processors, List<Process> waitingProcesses, int[] currentResources) {
+        this.currentTime = currentTime;
+        for (int i = 0; i < currentProcessIds.length; i++) {
+            Processor processor = processors.get(i);
+            Process currentProcess = processor.getCurrentProcess();
+            currentProcessIds[i] = currentProcess == null ? TraceTableFormat.NO_PROCESS : currentProcess.getId();
+            readyQueueSizes[i] = processor.getReadyQueueSize();
+        }
+        waitingCount = waitingProcesses.size();
+        int shown = Math.min(waitingCount, waitingIds.length);
+        for (int k = 0; k < shown; k++) {
+            waitingIds[k] = waitingProcesses.get(k).getId();
+        }
+        System.arraycopy(currentResources, 0, this.currentResources, 0, this.currentResources.length);
+    }
+
+    void appendTo(StringBuilder out) {
+        TraceTableFormat.appendRow(out, currentProcessIds.length, currentTime, currentProcessIds, readyQueueSizes,
+                waitingCount, waitingIds, currentResources);
+    }
+}
@@ -0,0 +1,180 @@
+package os.scheduling.trace;
+
+import os.scheduling.enums.SwitchReason;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+// TimelineRecorder 가 남긴 점유 구간으로 프로세서별 Gantt 차트를 그린다 (.svg 면 SVG, .html 이면 SVG 를 담은 HTML)
+// 파일을 두 번 읽어 (시간 범위, 그리기) 구간을 메모리에 모으지 않는다
+public class TimelineGanttExporter {
+    private static final int LABEL_WIDTH = 48;
+    private static final int AXIS_HEIGHT = 20;
+    private static final int ROW_HEIGHT = 24;
+    private static final int CHART_WIDTH = 1600;
+    private static final int AXIS_LABELS = 10;
+    // 이보다 넓은 막대에만 프로세스 ID 를 쓴다 (픽셀)
+    private static final double MIN_LABELED_WIDTH = 28;
+
+    private interface IntervalVisitor {
+        void visit(int processor, int processId, int start, int end, SwitchReason reason) throws IOException;
+    }
+
+    private final Path input;
+    private int numProcessors;
+    private int endTime;
+
+    public TimelineGanttExporter(Path input) {
+        this.input = input;
+    }
+
+    // 사용법: TimelineGanttExporter <timeline.bin> <gantt.svg | gantt.html> [시작 틱 끝 틱]
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 4) {
+            System.out.println("Usage: TimelineGanttExporter <timeline.bin> <gantt.svg | gantt.html> [from-tick to-tick]");
+            return;
+        }
+        TimelineGanttExporter exporter = new TimelineGanttExporter(Path.of(args[0]));
+        exporter.scan();
+        int from = args.length == 4 ? Integer.parseInt(args[2]) : 0;
+        int to = args.length == 4 ? Integer.parseInt(args[3]) : exporter.endTime;
+        checkRange(from, to);
+        Path output = Path.of(args[1]);
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            exporter.export(out, output.toString().endsWith(".html"), from, to);
+        }
+    }
+
+    // 프로세서 수와 실행이 끝난 시각을 읽는다 (끝 레코드가 없으면 가장 늦게 끝난 구간)
+    public void scan() throws IOException {
+        endTime = 0;
+        read((processor, processId, start, end, reason) -> endTime = Math.max(endTime, end));
+    }
+
+    // [from, to) 구간만 그린다. scan 을 먼저 호출해야 한다
+    public void export(Writer out, boolean html, int from, int to) throws IOException {
+        checkRange(from, to);
+        double scale = (double) CHART_WIDTH / (to - from);
+        int width = LABEL_WIDTH + CHART_WIDTH;
+        int height = AXIS_HEIGHT + numProcessors * ROW_HEIGHT;
+        if (html) {
+            out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>" + input.getFileName()
+                    + "</title></head><body>\n");
+        }
+        out.write(format("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-family=\"monospace\" font-size=\"11\">\n",
+                width, height));
+        for (int i = 0; i < numProcessors; i++) {
+            int y = AXIS_HEIGHT + i * ROW_HEIGHT;
+            out.write(format("<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"%s\"/>"
+                            + "<text x=\"4\" y=\"%d\">P%d</text>\n",
+                    LABEL_WIDTH, y, CHART_WIDTH, ROW_HEIGHT, i % 2 == 0 ? "#f4f4f4" : "#ffffff", y + ROW_HEIGHT * 2 / 3, i));
+        }
+        for (int k = 0; k <= AXIS_LABELS; k++) {
+            long tick = from + (long) (to - from) * k / AXIS_LABELS;
+            double x = LABEL_WIDTH + (tick - from) * scale;
+            out.write(format("<line x1=\"%.2f\" y1=\"%d\" x2=\"%.2f\" y2=\"%d\" stroke=\"#cccccc\"/>"
+                            + "<text x=\"%.2f\" y=\"%d\" text-anchor=\"%s\">%d</text>\n",
+                    x, AXIS_HEIGHT - 4, x, height, x, AXIS_HEIGHT - 6, k == AXIS_LABELS ? "end" : "start", tick));
+        }
+        read((processor, processId, start, end, reason) -> {
+            int clippedStart = Math.max(start, from);
+            int clippedEnd = Math.min(end, to);
+            if (clippedStart >= clippedEnd) {
+                return;
+            }
+            double x = LABEL_WIDTH + (clippedStart - from) * scale;
+            double barWidth = (clippedEnd - clippedStart) * scale;
+            int y = AXIS_HEIGHT + processor * ROW_HEIGHT + 2;
+            out.write(format("<rect x=\"%.2f\" y=\"%d\" width=\"%.2f\" height=\"%d\" fill=\"hsl(%d,60%%,62%%)\" stroke=\"#ffffff\" stroke-width=\"0.5\">"
+                            + "<title>Process %d on P%d [%d, %d) %s</title></rect>\n",
+                    x, y, barWidth, ROW_HEIGHT - 4, Math.floorMod(processId * 137, 360), processId, processor, start, end, reason));
+            if (barWidth >= MIN_LABELED_WIDTH) {
+                out.write(format("<text x=\"%.2f\" y=\"%d\" pointer-events=\"none\">%d</text>\n", x + 3, y + ROW_HEIGHT * 2 / 3 - 2, processId));
+            }
+        });
+        out.write("</svg>\n");
+        if (html) {
+            out.write("</body></html>\n");
+        }
+    }
+
+    private static void checkRange(int from, int to) {
+        if (from < 0 || to <= from) {
+            throw new IllegalArgumentException("Invalid time range [" + from + ", " + to + ")");
+        }
+    }
+
+    private void read(IntervalVisitor visitor) throws IOException {
+        try (InputStream input = Files.newInputStream(this.input)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+            if (in.readInt() != TimelineRecorder.MAGIC || in.readInt() != TimelineRecorder.VERSION) {
+                throw new IOException("Not a timeline file: " + this.input);
+            }
+            numProcessors = in.readInt();
+            int[] processors = new int[TimelineRecorder.BLOCK_INTERVALS];
+            int[] processIds = new int[TimelineRecorder.BLOCK_INTERVALS];
+            int[] ends = new int[TimelineRecorder.BLOCK_INTERVALS];
+            int[] durations = new int[TimelineRecorder.BLOCK_INTERVALS];
+            SwitchReason[] reasons = SwitchReason.values();
+            int tag;
+            while ((tag = in.read()) != -1) {
+                switch (tag) {
+                    case TimelineRecorder.TAG_INTERVAL_BLOCK -> {
+                        int blockSize = readVarInt(in);
+                        if (blockSize > TimelineRecorder.BLOCK_INTERVALS) {
+                            throw new IOException("Corrupt timeline block of " + blockSize + " intervals");
+                        }
+                        readColumn(in, processors, blockSize);
+                        readColumn(in, processIds, blockSize);
+                        int previousEnd = 0;
+                        for (int k = 0; k < blockSize; k++) {
+                            previousEnd += readVarInt(in);
+                            ends[k] = previousEnd;
+                        }
+                        readColumn(in, durations, blockSize);
+                        for (int k = 0; k < blockSize; k++) {
+                            visitor.visit(processors[k], processIds[k], ends[k] - durations[k], ends[k], reasons[readVarInt(in)]);
+                        }
+                    }
+                    case TimelineRecorder.TAG_END -> endTime = Math.max(endTime, readVarInt(in));
+                    default -> throw new IOException("Unknown record tag " + tag);
+                }
+            }
+        }
+    }
+
+    private static void readColumn(DataInputStream in, int[] column, int length) throws IOException {
+        for (int k = 0; k < length; k++) {
+            column[k] = readVarInt(in);
+        }
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Truncated timeline");
+            }
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return (int) ((zigZag >>> 1) ^ -(zigZag & 1));
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+}
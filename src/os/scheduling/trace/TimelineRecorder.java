@@ -0,0 +1,131 @@
+package os.scheduling.trace;
+
+import os.scheduling.enums.SwitchReason;
+import os.scheduling.model.Process;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// 프로세서별 점유 구간 (프로세서, 프로세스, 시작, 끝, 내려온 이유)을 블록 단위 열 지향 형식으로 기록한다
+// 점유가 바뀔 때만 구간이 하나 생기므로 파일 크기는 틱 수가 아니라 문맥 교환 수에 비례한다. 빈 시간은 기록하지 않는다
+// 헤더: MAGIC, VERSION, 프로세서 수 (4바이트 int)
+// 레코드: 1바이트 태그 + 내용 (값은 모두 지그재그 가변 길이 정수). 구간 블록은 구간 수, 프로세서, 프로세스 ID,
+//        끝 시각(차분), 길이, 이유 순으로 열을 이어 쓴다. 구간은 끝 시각 순이다. 끝 레코드는 실행이 끝난 시각
+public class TimelineRecorder implements AutoCloseable {
+    static final int MAGIC = 0x5053544D;
+    static final int VERSION = 1;
+    static final int TAG_INTERVAL_BLOCK = 1;
+    static final int TAG_END = 2;
+    static final int BLOCK_INTERVALS = 4096;
+
+    private final BackgroundTraceWriter writer;
+    // 프로세서별로 아직 닫지 않은 구간
+    private final int[] openProcessIds;
+    private final int[] openStarts;
+
+    // 블록 버퍼 (열 단위)
+    private final int[] processors = new int[BLOCK_INTERVALS];
+    private final int[] processIds = new int[BLOCK_INTERVALS];
+    private final int[] starts = new int[BLOCK_INTERVALS];
+    private final int[] ends = new int[BLOCK_INTERVALS];
+    private final int[] reasons = new int[BLOCK_INTERVALS];
+    private int blockSize = 0;
+
+    public TimelineRecorder(OutputStream out, boolean closeOutput, int numProcessors) {
+        this.writer = new BackgroundTraceWriter(out, closeOutput);
+        this.openProcessIds = new int[numProcessors];
+        this.openStarts = new int[numProcessors];
+        Arrays.fill(openProcessIds, TraceTableFormat.NO_PROCESS);
+        writer.writeInt(MAGIC);
+        writer.writeInt(VERSION);
+        writer.writeInt(numProcessors);
+    }
+
+    public static TimelineRecorder open(Path path, int numProcessors) {
+        try {
+            return new TimelineRecorder(Files.newOutputStream(path), true, numProcessors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open timeline file " + path, e);
+        }
+    }
+
+    // 배정 단계 뒤에 호출한다. 올라간 프로세스가 바뀌었으면 이전 구간은 선점으로 닫고 새 구간을 연다
+    public void processorAssigned(int processor, Process currentProcess, int currentTime) {
+        int processId = currentProcess == null ? TraceTableFormat.NO_PROCESS : currentProcess.getId();
+        if (processId == openProcessIds[processor]) {
+            return;
+        }
+        if (openProcessIds[processor] != TraceTableFormat.NO_PROCESS) {
+            closeInterval(processor, currentTime, SwitchReason.PREEMPTED);
+        }
+        openProcessIds[processor] = processId;
+        openStarts[processor] = currentTime;
+    }
+
+    // 정리 단계에서 프로세스를 내려놓았을 때 호출한다 (endTime 은 마지막으로 실행한 틱의 다음 시각)
+    public void processReleased(int processor, int endTime, SwitchReason reason) {
+        if (openProcessIds[processor] != TraceTableFormat.NO_PROCESS) {
+            closeInterval(processor, endTime, reason);
+        }
+    }
+
+    // 아직 실행 중인 구간을 닫고 실행이 끝난 시각을 기록한다
+    public void finish(int endTime) {
+        for (int i = 0; i < openProcessIds.length; i++) {
+            processReleased(i, endTime, SwitchReason.END);
+        }
+        flushBlock();
+        writer.write(TAG_END);
+        writer.writeVarLong(endTime);
+    }
+
+    @Override
+    public void close() {
+        flushBlock();
+        writer.close();
+    }
+
+    private void closeInterval(int processor, int endTime, SwitchReason reason) {
+        int k = blockSize;
+        processors[k] = processor;
+        processIds[k] = openProcessIds[processor];
+        starts[k] = openStarts[processor];
+        ends[k] = endTime;
+        reasons[k] = reason.ordinal();
+        openProcessIds[processor] = TraceTableFormat.NO_PROCESS;
+        blockSize++;
+        if (blockSize == BLOCK_INTERVALS) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() {
+        if (blockSize == 0) {
+            return;
+        }
+        writer.write(TAG_INTERVAL_BLOCK);
+        writer.writeVarLong(blockSize);
+        for (int k = 0; k < blockSize; k++) {
+            writer.writeVarLong(processors[k]);
+        }
+        for (int k = 0; k < blockSize; k++) {
+            writer.writeVarLong(processIds[k]);
+        }
+        int previousEnd = 0;
+        for (int k = 0; k < blockSize; k++) {
+            writer.writeVarLong((long) ends[k] - previousEnd);
+            previousEnd = ends[k];
+        }
+        for (int k = 0; k < blockSize; k++) {
+            writer.writeVarLong((long) ends[k] - starts[k]);
+        }
+        for (int k = 0; k < blockSize; k++) {
+            writer.writeVarLong(reasons[k]);
+        }
+        blockSize = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package os.scheduling.trace;
+
+import os.scheduling.metrics.SimulationMetrics;
+import os.scheduling.model.Process;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.Processor;
+
+import java.util.List;
+
+// 시뮬레이션 진행 상황을 받는 출력 대상. 기본 구현은 아무것도 하지 않는다 (TraceMode.OFF)
+public interface TraceSink extends AutoCloseable {
+
+    default void generatedDispatchesStarted() {
+    }
+
+    default void generatedDispatch(ProcessDispatch dispatch) {
+    }
+
+    // runDescription 은 시드를 포함한 실행 설정 (같은 결과를 다시 만들 때 필요)
+    default void simulationStarted(String runDescription) {
+    }
+
+    // 매 틱 상태 (프로세서별 현재 프로세스와 준비 큐 크기, 대기 큐, 남은 자원)
+    default void tick(int currentTime, List<Processor> processors, List<Process> waitingProcesses, int[] currentResources) {
+    }
+
+    default void unsolvable() {
+    }
+
+    default void error() {
+    }
+
+    default void finished() {
+    }
+
+    default void summary(SimulationMetrics metrics) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,31 @@
+package os.scheduling.trace;
+
+import os.scheduling.config.SimulationConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+public class TraceSinks {
+    private static final TraceSink OFF = new TraceSink() {
+    };
+
+    private TraceSinks() {
+    }
+
+    // TEXT 는 표준 출력, BINARY 는 설정의 tracePath 파일로 기록
+    public static TraceSink open(SimulationConfig config) {
+        return switch (config.getTraceMode()) {
+            case OFF -> OFF;
+            case TEXT -> new TextTraceSink(System.out, false, config.getNumProcessors(), config.getNumOfResourceTypes());
+            case BINARY -> {
+                try {
+                    yield new BinaryTraceSink(Files.newOutputStream(config.getTracePath()), true,
+                            config.getNumProcessors(), config.getNumOfResourceTypes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot open trace file " + config.getTracePath(), e);
+                }
+            }
+        };
+    }
+}
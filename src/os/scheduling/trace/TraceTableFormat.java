@@ -0,0 +1,119 @@
+package os.scheduling.trace;
+
+// 기존 콘솔 출력 형식. 텍스트 출력과 바이너리 로그 복원이 같은 코드를 사용한다
+final class TraceTableFormat {
+    // 대기 큐 표시는 20자를 넘으면 잘리므로, 앞의 8개 ID 만 있으면 같은 문자열을 만들 수 있다 (8개면 최소 22자)
+    static final int SHOWN_WAITING_IDS = 8;
+    static final int NO_PROCESS = Integer.MIN_VALUE;
+    private static final int MAX_WAITING_OUTPUT_LENGTH = 20;
+
+    private TraceTableFormat() {
+    }
+
+    static void appendGeneratedHeader(StringBuilder out) {
+        out.append("================================================\n");
+        out.append("Generated tasks: [task number, dispatch time, expected run time, required resources]\n");
+    }
+
+    static void appendDispatch(StringBuilder out, int processId, int dispatchTime, int runTime, int[] resources) {
+        out.append('[').append(processId).append(", ").append(dispatchTime).append(", ").append(runTime).append(", ");
+        appendArray(out, resources, resources.length);
+        out.append("]\n");
+    }
+
+    static void appendRunDescription(StringBuilder out, String runDescription) {
+        out.append("Simulation run ").append(runDescription).append('\n');
+    }
+
+    static void appendTableHeader(StringBuilder out) {
+        out.append("#PROC #TICK : PROC ID     | # CPU WAIT | # WAITING QUEUE | CURRENT RESOURCES\n");
+        out.append("-------------------------------------------------------------------------------\n");
+    }
+
+    // 한 틱의 행: " P002  T005 :  3 -- | 1 * |    | 1, 4                 | [5, 5, 5]"
+    static void appendRow(StringBuilder out, int numProcessors, int currentTime, int[] currentProcessIds, int[] readyQueueSizes,
+                          int waitingCount, int[] waitingIds, int[] currentResources) {
+        out.append(" P");
+        appendZeroPadded(out, numProcessors);
+        out.append("  T");
+        appendZeroPadded(out, currentTime);
+        out.append(" : ");
+        for (int i = 0; i < numProcessors; i++) {
+            if (currentProcessIds[i] == NO_PROCESS) {
+                out.append("-- ");
+            } else {
+                appendRightAligned(out, currentProcessIds[i]);
+                out.append(' ');
+            }
+        }
+        out.append("| ");
+        for (int i = 0; i < numProcessors; i++) {
+            if (readyQueueSizes[i] == 0) {
+                out.append("* ");
+            } else {
+                out.append(readyQueueSizes[i]).append(' ');
+            }
+        }
+        out.append("   | ");
+        appendWaitingIds(out, waitingCount, waitingIds);
+        out.append(" | ");
+        appendArray(out, currentResources, currentResources.length);
+        out.append('\n');
+    }
+
+    static void appendUnsolvable(StringBuilder out) {
+        out.append("ERROR: PROBLEM NOT SOLVABLE!! (Resource cannot be assigned forever)\n");
+    }
+
+    static void appendError(StringBuilder out) {
+        out.append("ERROR OCCURRED!!\n");
+    }
+
+    static void appendFinish(StringBuilder out) {
+        out.append("Finish!\n");
+    }
+
+    // "%-20s" 로 맞추고, 20자를 넘으면 앞 17자 + "..."
+    private static void appendWaitingIds(StringBuilder out, int waitingCount, int[] waitingIds) {
+        int start = out.length();
+        int shown = Math.min(waitingCount, SHOWN_WAITING_IDS);
+        for (int k = 0; k < shown; k++) {
+            if (k > 0) {
+                out.append(", ");
+            }
+            out.append(waitingIds[k]);
+        }
+        if (waitingCount > shown || out.length() - start > MAX_WAITING_OUTPUT_LENGTH) {
+            out.setLength(start + MAX_WAITING_OUTPUT_LENGTH - 3);
+            out.append("...");
+        }
+        while (out.length() - start < MAX_WAITING_OUTPUT_LENGTH) {
+            out.append(' ');
+        }
+    }
+
+    private static void appendZeroPadded(StringBuilder out, int value) {
+        if (value >= 0 && value < 100) {
+            out.append(value < 10 ? "00" : "0");
+        }
+        out.append(value);
+    }
+
+    private static void appendRightAligned(StringBuilder out, int value) {
+        if (value >= 0 && value < 10) {
+            out.append(' ');
+        }
+        out.append(value);
+    }
+
+    private static void appendArray(StringBuilder out, int[] values, int length) {
+        out.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(values[i]);
+        }
+        out.append(']');
+    }
+}
@@ -0,0 +1,133 @@
+package os.scheduling.workload;
+
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.ProcessTable;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+// 바이너리 트레이스 (빅엔디언 int)
+// 헤더: MAGIC, VERSION, 자원 종류 수 / 레코드: processId, dispatchTime, runTime, resources[자원 종류 수], deadline,
+// tickets, 입출력 구간 수, (cpuTime, device, ioTime)[입출력 구간 수]
+// 입출력 구간 수만큼 레코드 길이가 달라진다. 버전 2 파일은 deadline 까지만 담은 고정 길이 레코드라 DEFAULT_TICKETS, 입출력 없음으로,
+// 버전 1 파일은 deadline 도 없어 NO_DEADLINE 으로 읽는다
+public class BinaryTraceReader implements DispatchCursor {
+    static final int MAGIC = 0x50535452;
+    static final int VERSION = 3;
+    static final int VERSION_WITHOUT_TICKETS_AND_IO = 2;
+    static final int VERSION_WITHOUT_DEADLINE = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final Path path;
+    private final long windowSize;
+    private final MappedTraceWindow window;
+    private final int numOfResourceTypes;
+    // 입출력 구간을 뺀 레코드 길이
+    private final int fixedRecordSize;
+    private final boolean hasDeadlines;
+    private final boolean hasTicketsAndIo;
+    private long position = HEADER_SIZE;
+    private long recordIndex = 0;
+    private int lastDispatchTime = Integer.MIN_VALUE;
+
+    public BinaryTraceReader(Path path, int expectedResourceTypes) {
+        this(path, expectedResourceTypes, MappedTraceWindow.DEFAULT_WINDOW_SIZE);
+    }
+
+    BinaryTraceReader(Path path, int expectedResourceTypes, long windowSize) {
+        this.path = path;
+        this.windowSize = windowSize;
+        this.window = new MappedTraceWindow(path, windowSize);
+        if (window.fileSize() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Not a binary trace: " + path);
+        }
+        MappedByteBuffer header = window.buffer();
+        int version = header.getInt(Integer.BYTES);
+        if (header.getInt(0) != MAGIC || version < VERSION_WITHOUT_DEADLINE || version > VERSION) {
+            throw new IllegalArgumentException("Not a binary trace (bad magic/version): " + path);
+        }
+        this.numOfResourceTypes = header.getInt(2 * Integer.BYTES);
+        if (numOfResourceTypes != expectedResourceTypes) {
+            throw new IllegalArgumentException("Trace has " + numOfResourceTypes + " resource types but the simulator expects " + expectedResourceTypes);
+        }
+        this.hasDeadlines = version >= VERSION_WITHOUT_TICKETS_AND_IO;
+        this.hasTicketsAndIo = version == VERSION;
+        this.fixedRecordSize = (3 + numOfResourceTypes + (hasDeadlines ? 1 : 0) + (hasTicketsAndIo ? 2 : 0)) * Integer.BYTES;
+        // 가변 길이 레코드는 읽으면서 잘린 곳을 찾는다
+        if (!hasTicketsAndIo && (window.fileSize() - HEADER_SIZE) % fixedRecordSize != 0) {
+            throw new IllegalArgumentException("Truncated binary trace: " + path);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < window.fileSize();
+    }
+
+    @Override
+    public int peekDispatchTime() {
+        if (!hasNext()) {
+            return NO_MORE_DISPATCHES;
+        }
+        int offset = window.ensure(position, 2 * Integer.BYTES);
+        return window.buffer().getInt(offset + Integer.BYTES);
+    }
+
+    @Override
+    public ProcessDispatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (position + fixedRecordSize > window.fileSize()) {
+            throw new IllegalStateException("Truncated binary trace at record " + recordIndex + ": " + path);
+        }
+        int offset = window.ensure(position, fixedRecordSize);
+        int ioBurstCount = hasTicketsAndIo ? window.buffer().getInt(offset + fixedRecordSize - Integer.BYTES) : 0;
+        if (ioBurstCount < 0) {
+            throw new IllegalStateException("Negative I/O burst count at record " + recordIndex + ": " + path);
+        }
+        int recordSize = fixedRecordSize + ioBurstCount * 3 * Integer.BYTES;
+        if (position + recordSize > window.fileSize()) {
+            throw new IllegalStateException("Truncated binary trace at record " + recordIndex + ": " + path);
+        }
+        offset = window.ensure(position, recordSize);
+        MappedByteBuffer buffer = window.buffer();
+        int processId = buffer.getInt(offset);
+        int dispatchTime = buffer.getInt(offset + Integer.BYTES);
+        int runTime = buffer.getInt(offset + 2 * Integer.BYTES);
+        int[] resources = new int[numOfResourceTypes];
+        for (int j = 0; j < numOfResourceTypes; j++) {
+            resources[j] = buffer.getInt(offset + (3 + j) * Integer.BYTES);
+        }
+        int deadline = hasDeadlines ? buffer.getInt(offset + (3 + numOfResourceTypes) * Integer.BYTES) : ProcessTable.NO_DEADLINE;
+        int tickets = hasTicketsAndIo ? buffer.getInt(offset + (4 + numOfResourceTypes) * Integer.BYTES) : ProcessTable.DEFAULT_TICKETS;
+        IoBurst[] ioBursts = ioBurstCount == 0 ? ProcessDispatch.NO_IO_BURSTS : new IoBurst[ioBurstCount];
+        for (int k = 0; k < ioBurstCount; k++) {
+            int field = offset + fixedRecordSize + k * 3 * Integer.BYTES;
+            ioBursts[k] = new IoBurst(buffer.getInt(field), buffer.getInt(field + Integer.BYTES), buffer.getInt(field + 2 * Integer.BYTES));
+        }
+        if (dispatchTime < lastDispatchTime) {
+            throw new IllegalStateException("Trace is not sorted by dispatch time at record " + recordIndex);
+        }
+        lastDispatchTime = dispatchTime;
+        position += recordSize;
+        recordIndex++;
+        return new ProcessDispatch(processId, dispatchTime, runTime, resources, deadline, ioBursts, tickets);
+    }
+
+    @Override
+    public DispatchCursor fork() {
+        BinaryTraceReader fork = new BinaryTraceReader(path, numOfResourceTypes, windowSize);
+        fork.position = position;
+        fork.recordIndex = recordIndex;
+        fork.lastDispatchTime = lastDispatchTime;
+        return fork;
+    }
+
+    @Override
+    public void close() {
+        window.close();
+    }
+}
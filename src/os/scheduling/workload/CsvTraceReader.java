@@ -0,0 +1,213 @@
+package os.scheduling.workload;
+
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.ProcessTable;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// processId,dispatchTime,runTime,r0,r1,...[,deadline[,tickets][,cpuTime,device,ioTime]...] 형식의 CSV 트레이스 (deadline 열은 생략 가능)
+// deadline 뒤에는 티켓 수 한 열과 입출력 구간을 세 열씩 이어 쓸 수 있다 (cpuTime 만큼 실행한 뒤 device 에서 ioTime 동안 입출력)
+// deadline 뒤 열 수를 3 으로 나눈 나머지가 1 이면 첫 열이 티켓 수다
+// 숫자로 시작하지 않는 줄(헤더, # 주석)과 빈 줄은 건너뛴다. 다음 레코드 하나만 미리 파싱해 둔다
+public class CsvTraceReader implements DispatchCursor {
+    private final Path path;
+    private final long windowSize;
+    private final MappedTraceWindow window;
+    private final int numOfResourceTypes;
+    private int[] fields;
+    private int fieldCount = 0;
+    private long position = 0;
+    private long lineNumber = 0;
+    private boolean hasPending = false;
+    private long pendingLineStart = 0;
+    private int lastDispatchTime = Integer.MIN_VALUE;
+
+    public CsvTraceReader(Path path, int expectedResourceTypes) {
+        this(path, expectedResourceTypes, MappedTraceWindow.DEFAULT_WINDOW_SIZE);
+    }
+
+    CsvTraceReader(Path path, int expectedResourceTypes, long windowSize) {
+        this(path, expectedResourceTypes, windowSize, 0, 0, Integer.MIN_VALUE);
+    }
+
+    private CsvTraceReader(Path path, int expectedResourceTypes, long windowSize,
+                           long position, long lineNumber, int lastDispatchTime) {
+        this.path = path;
+        this.windowSize = windowSize;
+        this.window = new MappedTraceWindow(path, windowSize);
+        this.numOfResourceTypes = expectedResourceTypes;
+        this.fields = new int[4 + expectedResourceTypes];
+        this.position = position;
+        this.lineNumber = lineNumber;
+        this.lastDispatchTime = lastDispatchTime;
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasPending;
+    }
+
+    @Override
+    public int peekDispatchTime() {
+        return hasPending ? fields[1] : NO_MORE_DISPATCHES;
+    }
+
+    @Override
+    public ProcessDispatch next() {
+        if (!hasPending) {
+            throw new NoSuchElementException();
+        }
+        int resourceEnd = 3 + numOfResourceTypes;
+        int deadline = fieldCount > resourceEnd ? fields[resourceEnd] : ProcessTable.NO_DEADLINE;
+        int ioStart = resourceEnd + 1;
+        int tickets = ProcessTable.DEFAULT_TICKETS;
+        if (fieldCount > ioStart && (fieldCount - ioStart) % 3 == 1) {
+            tickets = fields[ioStart++];
+        }
+        IoBurst[] ioBursts = ProcessDispatch.NO_IO_BURSTS;
+        if (fieldCount > ioStart) {
+            ioBursts = new IoBurst[(fieldCount - ioStart) / 3];
+            for (int k = 0; k < ioBursts.length; k++) {
+                int field = ioStart + 3 * k;
+                ioBursts[k] = new IoBurst(fields[field], fields[field + 1], fields[field + 2]);
+            }
+        }
+        ProcessDispatch dispatch = new ProcessDispatch(fields[0], fields[1], fields[2],
+                Arrays.copyOfRange(fields, 3, resourceEnd), deadline, ioBursts, tickets);
+        advance();
+        return dispatch;
+    }
+
+    // 미리 읽어 둔 줄의 시작부터 다시 읽는 새 매핑을 연다
+    @Override
+    public DispatchCursor fork() {
+        if (!hasPending) {
+            return new CsvTraceReader(path, numOfResourceTypes, windowSize, position, lineNumber, lastDispatchTime);
+        }
+        return new CsvTraceReader(path, numOfResourceTypes, windowSize, pendingLineStart, lineNumber - 1, lastDispatchTime);
+    }
+
+    @Override
+    public void close() {
+        window.close();
+    }
+
+    // 다음 데이터 줄을 찾아 fields 에 파싱한다
+    private void advance() {
+        hasPending = false;
+        while (position < window.fileSize()) {
+            int lineLength = findLineLength();
+            int offset = window.ensure(position, lineLength);
+            long lineStart = position;
+            position += lineLength;
+            lineNumber++;
+            if (parseLine(window.buffer(), offset, lineLength, lineStart)) {
+                if (fields[1] < lastDispatchTime) {
+                    throw new IllegalStateException("Trace is not sorted by dispatch time at line " + lineNumber);
+                }
+                lastDispatchTime = fields[1];
+                pendingLineStart = lineStart;
+                hasPending = true;
+                return;
+            }
+        }
+    }
+
+    // 줄바꿈 문자를 포함한 줄 길이. 창 경계에 걸리면 줄 시작 위치로 창을 옮겨 다시 찾는다
+    private int findLineLength() {
+        while (true) {
+            MappedByteBuffer buffer = window.buffer();
+            int start = window.ensure(position, 0);
+            int available = window.available(position);
+            for (int i = 0; i < available; i++) {
+                if (buffer.get(start + i) == '\n') {
+                    return i + 1;
+                }
+            }
+            if (window.isWindowAtEnd()) {
+                return available;
+            }
+            if (start == 0) {
+                throw new IllegalStateException("Trace line " + (lineNumber + 1) + " is longer than the mapping window");
+            }
+            window.remap(position);
+        }
+    }
+
+    private boolean parseLine(MappedByteBuffer buffer, int offset, int length, long lineStart) {
+        int end = offset + length;
+        while (end > offset && isLineBreak(buffer.get(end - 1))) {
+            end--;
+        }
+        if (end == offset) {
+            return false;
+        }
+        byte first = buffer.get(offset);
+        if (first != '-' && (first < '0' || first > '9')) {
+            return false;
+        }
+
+        int fieldIndex = 0;
+        int value = 0;
+        boolean isNegative = false;
+        boolean hasDigit = false;
+        for (int i = offset; i <= end; i++) {
+            byte b = i < end ? buffer.get(i) : (byte) ',';
+            if (b == ',') {
+                if (!hasDigit) {
+                    throw malformed(lineStart);
+                }
+                if (fieldIndex == fields.length) {
+                    fields = Arrays.copyOf(fields, fields.length + 3);
+                }
+                fields[fieldIndex++] = isNegative ? -value : value;
+                value = 0;
+                isNegative = false;
+                hasDigit = false;
+            } else if (b >= '0' && b <= '9') {
+                int digit = b - '0';
+                if (value > (Integer.MAX_VALUE - digit) / 10) {
+                    throw invalid(lineStart, "a number out of int range");
+                }
+                value = value * 10 + digit;
+                hasDigit = true;
+            } else if (b == '-' && !hasDigit && !isNegative) {
+                isNegative = true;
+            } else if (b != ' ') {
+                throw malformed(lineStart);
+            }
+        }
+        int deadlineEnd = 4 + numOfResourceTypes;
+        if (fieldIndex < deadlineEnd - 1 || (fieldIndex > deadlineEnd && (fieldIndex - deadlineEnd) % 3 == 2)) {
+            throw malformed(lineStart);
+        }
+        if (fields[2] < 0) {
+            throw invalid(lineStart, "a negative runTime " + fields[2]);
+        }
+        for (int j = 0; j < numOfResourceTypes; j++) {
+            if (fields[3 + j] < 0) {
+                throw invalid(lineStart, "a negative amount " + fields[3 + j] + " of resource " + j);
+            }
+        }
+        fieldCount = fieldIndex;
+        return true;
+    }
+
+    private IllegalStateException malformed(long lineStart) {
+        return new IllegalStateException("Malformed trace line " + lineNumber + " at byte " + lineStart
+                + " (expected processId,dispatchTime,runTime and " + numOfResourceTypes + " resource columns, optionally followed by a deadline, tickets and cpuTime,device,ioTime triples)");
+    }
+
+    private IllegalStateException invalid(long lineStart, String problem) {
+        return new IllegalStateException("Trace line " + lineNumber + " at byte " + lineStart + " has " + problem);
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+}
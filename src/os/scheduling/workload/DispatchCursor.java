@@ -0,0 +1,22 @@
+package os.scheduling.workload;
+
+import os.scheduling.model.ProcessDispatch;
+
+// 도착 시간 순으로 작업을 하나씩 꺼내는 커서. 다음 작업의 도착 시간만 미리 볼 수 있다
+public interface DispatchCursor extends AutoCloseable {
+    int NO_MORE_DISPATCHES = Integer.MAX_VALUE;
+
+    boolean hasNext();
+
+    // 다음 작업의 도착 시간 (없으면 NO_MORE_DISPATCHES)
+    int peekDispatchTime();
+
+    ProcessDispatch next();
+
+    // 남은 작업을 소비하지 않고 현재 위치부터 따로 읽는 커서 (체크포인트를 다른 스레드에서 쓸 때 사용)
+    DispatchCursor fork();
+
+    @Override
+    default void close() {
+    }
+}
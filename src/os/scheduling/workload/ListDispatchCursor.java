@@ -0,0 +1,45 @@
+package os.scheduling.workload;
+
+import os.scheduling.model.ProcessDispatch;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 이미 도착 시간 순으로 정렬된 목록을 앞에서부터 읽는다
+public class ListDispatchCursor implements DispatchCursor {
+    private final List<ProcessDispatch> dispatches;
+    private int index;
+
+    public ListDispatchCursor(List<ProcessDispatch> dispatches) {
+        this(dispatches, 0);
+    }
+
+    private ListDispatchCursor(List<ProcessDispatch> dispatches, int index) {
+        this.dispatches = dispatches;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < dispatches.size();
+    }
+
+    @Override
+    public int peekDispatchTime() {
+        return hasNext() ? dispatches.get(index).dispatchTime() : NO_MORE_DISPATCHES;
+    }
+
+    @Override
+    public ProcessDispatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return dispatches.get(index++);
+    }
+
+    // 목록은 만든 뒤 바뀌지 않으므로 위치만 복사한다
+    @Override
+    public DispatchCursor fork() {
+        return new ListDispatchCursor(dispatches, index);
+    }
+}
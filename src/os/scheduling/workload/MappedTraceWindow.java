@@ -0,0 +1,83 @@
+package os.scheduling.workload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 파일을 고정 크기 창 단위로 메모리 매핑한다. 2GB 를 넘는 트레이스도 창을 옮겨 가며 읽는다
+class MappedTraceWindow implements AutoCloseable {
+    static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private MappedByteBuffer buffer;
+    private long windowStart = 0;
+
+    MappedTraceWindow(Path path, long windowSize) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open trace " + path, e);
+        }
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    long fileSize() {
+        return fileSize;
+    }
+
+    // position 부터 length 바이트가 창 안에 들어오도록 보장하고, 창 안에서의 오프셋을 돌려준다
+    int ensure(long position, int length) {
+        if (position < windowStart || position + length > windowStart + buffer.limit()) {
+            map(position);
+            if (position + length > windowStart + buffer.limit()) {
+                throw new IllegalStateException("Trace record at byte " + position + " exceeds the mapping window");
+            }
+        }
+        return (int) (position - windowStart);
+    }
+
+    // 창 끝까지 매핑된 바이트 수 (position 기준)
+    int available(long position) {
+        return (int) (windowStart + buffer.limit() - position);
+    }
+
+    boolean isWindowAtEnd() {
+        return windowStart + buffer.limit() >= fileSize;
+    }
+
+    void remap(long position) {
+        map(position);
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    private void map(long position) {
+        try {
+            long size = Math.min(windowSize, fileSize - position);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.max(0, size));
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            windowStart = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map trace window at " + position, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
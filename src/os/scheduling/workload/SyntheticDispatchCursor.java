@@ -0,0 +1,257 @@
+package os.scheduling.workload;
+
+import os.scheduling.config.SimulationConfig;
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+import os.scheduling.model.ProcessTable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// 설정의 분포에 따라 작업을 도착 시간 순으로 필요할 때 하나씩 만든다. 작업 수와 무관하게 상태는 필드 몇 개뿐이다
+// 도착 시각과 작업 내용은 시드에서 갈라진 두 난수열에서 뽑아, 같은 시드면 몇 번째 작업이든 항상 같다
+public class SyntheticDispatchCursor implements DispatchCursor {
+    // 꼬리가 긴 분포의 실행 시간 상한 (maxProcessRunTime 의 배수, 마감 시각 계산이 넘치지 않게 한다)
+    private static final int RUN_TIME_TAIL_LIMIT = 1000;
+    // 난수는 SplitMix64 로 만든다. 상태가 long 하나라 fork 에서 그대로 복사할 수 있다
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long ARRIVAL_STREAM = 0x41525256L;
+    private static final long JOB_STREAM = 0x4A4F4253L;
+
+    private final SimulationConfig config;
+    private final int numProcesses;
+    private final int[] maxDemands;
+    private final double meanGap;
+    private final double meanRunTime;
+    private final double correlationWeight;
+    private final double independentWeight;
+    private final int ioDevices;
+
+    private long arrivalState;
+    private long jobState;
+    private int index;
+    private int nextDispatchTime;
+    // UNIFORM: 직전 작업 도착 시각의 구간 내 비율 (정렬된 균등 표본을 앞에서부터 하나씩 만든다)
+    private double arrivalFraction;
+    // POISSON, BURSTY: 실수로 누적한 도착 시각
+    private double arrivalClock;
+    private int burstRemaining;
+
+    public SyntheticDispatchCursor(SimulationConfig config) {
+        this.config = config;
+        this.numProcesses = config.getNumProcesses();
+        this.maxDemands = config.getGivenResources();
+        for (int j = 0; j < maxDemands.length; j++) {
+            maxDemands[j] /= 2;
+        }
+        this.meanGap = (config.getProcessGenerationTimeLimit() + 1) / (double) Math.max(numProcesses, 1);
+        this.meanRunTime = (config.getMaxProcessRunTime() + 1) / 2.0;
+        this.correlationWeight = Math.sqrt(config.getResourceCorrelation());
+        this.independentWeight = Math.sqrt(1 - config.getResourceCorrelation());
+        this.ioDevices = config.getIoDevices();
+        this.arrivalState = mix(config.getSeed() ^ ARRIVAL_STREAM);
+        this.jobState = mix(config.getSeed() ^ JOB_STREAM);
+        if (numProcesses > 0) {
+            nextDispatchTime = drawDispatchTime();
+        }
+    }
+
+    private SyntheticDispatchCursor(SyntheticDispatchCursor source) {
+        this.config = source.config;
+        this.numProcesses = source.numProcesses;
+        this.maxDemands = source.maxDemands;
+        this.meanGap = source.meanGap;
+        this.meanRunTime = source.meanRunTime;
+        this.correlationWeight = source.correlationWeight;
+        this.independentWeight = source.independentWeight;
+        this.ioDevices = source.ioDevices;
+        this.arrivalState = source.arrivalState;
+        this.jobState = source.jobState;
+        this.index = source.index;
+        this.nextDispatchTime = source.nextDispatchTime;
+        this.arrivalFraction = source.arrivalFraction;
+        this.arrivalClock = source.arrivalClock;
+        this.burstRemaining = source.burstRemaining;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < numProcesses;
+    }
+
+    @Override
+    public int peekDispatchTime() {
+        return hasNext() ? nextDispatchTime : NO_MORE_DISPATCHES;
+    }
+
+    @Override
+    public ProcessDispatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ProcessDispatch dispatch = createDispatch(index + 1, nextDispatchTime);
+        index++;
+        if (hasNext()) {
+            nextDispatchTime = drawDispatchTime();
+        }
+        return dispatch;
+    }
+
+    // 난수열 상태까지 그대로 복사하므로 원본과 같은 작업을 같은 순서로 만든다
+    @Override
+    public DispatchCursor fork() {
+        return new SyntheticDispatchCursor(this);
+    }
+
+    private int drawDispatchTime() {
+        switch (config.getArrivalProcess()) {
+            case UNIFORM -> {
+                // 남은 m 개 표본 중 최솟값은 남은 구간에서 1 - U^(1/m) 비율 지점에 있다
+                int remaining = numProcesses - index;
+                arrivalFraction += (1 - arrivalFraction) * -Math.expm1(Math.log(nextArrivalDouble()) / remaining);
+                int limit = config.getProcessGenerationTimeLimit();
+                return Math.min(limit, (int) (arrivalFraction * (limit + 1)));
+            }
+            case POISSON -> arrivalClock += exponential(meanGap);
+            case BURSTY -> {
+                // 몰려온 작업 사이는 평균 간격의 1/burstSize, 몰림 사이는 나머지 시간을 채워 전체 평균 간격을 맞춘다
+                int burstSize = config.getBurstSize();
+                double burstGap = meanGap / burstSize;
+                if (burstRemaining == 0) {
+                    burstRemaining = geometric(burstSize);
+                    arrivalClock += exponential(burstSize * meanGap - (burstSize - 1) * burstGap);
+                } else {
+                    arrivalClock += exponential(burstGap);
+                }
+                burstRemaining--;
+            }
+        }
+        return (int) Math.min(arrivalClock, NO_MORE_DISPATCHES - 1);
+    }
+
+    private ProcessDispatch createDispatch(int processId, int dispatchTime) {
+        int runTime = drawRunTime();
+        int[] resources = drawResources();
+        long deadline = (long) dispatchTime + runTime + nextJobInt((long) runTime * config.getDeadlineSlack() + 1);
+        IoBurst[] ioBursts = ioDevices == 0 ? ProcessDispatch.NO_IO_BURSTS : drawIoBursts(runTime);
+        for (IoBurst burst : ioBursts) {
+            deadline += burst.ioTime();
+        }
+        return new ProcessDispatch(processId, dispatchTime, runTime, resources, clampTime(deadline), ioBursts, drawTickets());
+    }
+
+    // 상한이 없으면 난수를 쓰지 않아, 같은 시드의 기존 작업열이 그대로 나온다
+    private int drawTickets() {
+        int maxTickets = config.getMaxTickets();
+        return maxTickets == 0 ? ProcessTable.DEFAULT_TICKETS : 1 + (int) nextJobInt(maxTickets);
+    }
+
+    private int drawRunTime() {
+        int maxRunTime = config.getMaxProcessRunTime();
+        double shape = config.getRunTimeShape();
+        double runTime = switch (config.getRunTimeDistribution()) {
+            case UNIFORM -> 1 + nextJobInt(maxRunTime);
+            case PARETO -> meanRunTime * (shape - 1) / shape * Math.pow(nextJobDouble(), -1 / shape);
+            case LOGNORMAL -> Math.exp(Math.log(meanRunTime) - shape * shape / 2 + shape * nextJobGaussian());
+        };
+        return (int) Math.max(1, Math.min(Math.round(runTime), (long) maxRunTime * RUN_TIME_TAIL_LIMIT));
+    }
+
+    // 가우시안 코풀라: 공통 인자와 종류별 인자를 섞은 정규값을 분위로 바꾸므로, 종류별 분포는 상관과 무관하게 0..최대 균등이다
+    private int[] drawResources() {
+        int[] resources = new int[maxDemands.length];
+        double common = correlationWeight > 0 ? nextJobGaussian() : 0;
+        for (int j = 0; j < resources.length; j++) {
+            double quantile = correlationWeight > 0
+                    ? normalCdf(correlationWeight * common + independentWeight * nextJobGaussian())
+                    : nextJobDouble();
+            resources[j] = Math.min(maxDemands[j], (int) (quantile * (maxDemands[j] + 1)));
+        }
+        return resources;
+    }
+
+    // 실행 시간을 서로 다른 무작위 지점에서 끊어 그 사이에 입출력을 넣는다 (마지막 CPU 구간은 1 틱 이상 남는다)
+    private IoBurst[] drawIoBursts(int runTime) {
+        int count = (int) nextJobInt(Math.min(config.getMaxIoBursts(), runTime - 1) + 1);
+        if (count == 0) {
+            return ProcessDispatch.NO_IO_BURSTS;
+        }
+        // Floyd 표본 추출: 1..runTime-1 에서 서로 다른 count 개
+        int[] cuts = new int[count];
+        for (int k = 0, top = runTime - count; k < count; k++, top++) {
+            int cut = 1 + (int) nextJobInt(top);
+            cuts[k] = contains(cuts, k, cut) ? top : cut;
+        }
+        Arrays.sort(cuts);
+        IoBurst[] ioBursts = new IoBurst[count];
+        int previousCut = 0;
+        for (int k = 0; k < count; k++) {
+            ioBursts[k] = new IoBurst(cuts[k] - previousCut, (int) nextJobInt(ioDevices), 1 + (int) nextJobInt(config.getMaxIoTime()));
+            previousCut = cuts[k];
+        }
+        return ioBursts;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int k = 0; k < length; k++) {
+            if (values[k] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int clampTime(long time) {
+        return (int) Math.min(time, NO_MORE_DISPATCHES - 1);
+    }
+
+    private double exponential(double mean) {
+        return -mean * Math.log(nextArrivalDouble());
+    }
+
+    // 평균이 mean 인 1 이상의 기하 분포
+    private int geometric(int mean) {
+        if (mean == 1) {
+            return 1;
+        }
+        return 1 + (int) Math.min(Integer.MAX_VALUE - 1, Math.log(nextArrivalDouble()) / Math.log1p(-1.0 / mean));
+    }
+
+    // (0, 1] 구간 (로그를 취해도 무한대가 나오지 않는다)
+    private double nextArrivalDouble() {
+        arrivalState += GOLDEN_GAMMA;
+        return toUnitInterval(mix(arrivalState));
+    }
+
+    private double nextJobDouble() {
+        jobState += GOLDEN_GAMMA;
+        return toUnitInterval(mix(jobState));
+    }
+
+    // 0 이상 bound 미만
+    private long nextJobInt(long bound) {
+        return Math.min(bound - 1, (long) ((1 - nextJobDouble()) * bound));
+    }
+
+    private double nextJobGaussian() {
+        return Math.sqrt(-2 * Math.log(nextJobDouble())) * Math.cos(2 * Math.PI * nextJobDouble());
+    }
+
+    // 표준 정규 분포의 누적 분포 (Abramowitz-Stegun 7.1.26, 오차 1.5e-7)
+    private static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double toUnitInterval(long bits) {
+        return ((bits >>> 11) + 1) * 0x1.0p-53;
+    }
+}
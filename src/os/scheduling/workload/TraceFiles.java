@@ -0,0 +1,68 @@
+package os.scheduling.workload;
+
+import os.scheduling.model.IoBurst;
+import os.scheduling.model.ProcessDispatch;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TraceFiles {
+
+    private TraceFiles() {
+    }
+
+    // 확장자가 .csv 이면 CSV, 그 밖에는 바이너리 트레이스로 연다
+    public static DispatchCursor open(Path path, int numOfResourceTypes) {
+        if (path.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            return new CsvTraceReader(path, numOfResourceTypes);
+        }
+        return new BinaryTraceReader(path, numOfResourceTypes);
+    }
+
+    public static long writeBinary(Path path, DispatchCursor dispatches, int numOfResourceTypes) throws IOException {
+        long count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(BinaryTraceReader.MAGIC);
+            out.writeInt(BinaryTraceReader.VERSION);
+            out.writeInt(numOfResourceTypes);
+            while (dispatches.hasNext()) {
+                ProcessDispatch dispatch = dispatches.next();
+                if (dispatch.resources().length != numOfResourceTypes) {
+                    throw new IllegalArgumentException("Process " + dispatch.processId() + " has " + dispatch.resources().length + " resource types");
+                }
+                out.writeInt(dispatch.processId());
+                out.writeInt(dispatch.dispatchTime());
+                out.writeInt(dispatch.runTime());
+                for (int resource : dispatch.resources()) {
+                    out.writeInt(resource);
+                }
+                out.writeInt(dispatch.deadline());
+                out.writeInt(dispatch.tickets());
+                out.writeInt(dispatch.ioBursts().length);
+                for (IoBurst burst : dispatch.ioBursts()) {
+                    out.writeInt(burst.cpuTime());
+                    out.writeInt(burst.device());
+                    out.writeInt(burst.ioTime());
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 사용법: TraceFiles <입력.csv> <출력.bin> <자원 종류 수>
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.out.println("Usage: TraceFiles <input.csv> <output.bin> <numOfResourceTypes>");
+            return;
+        }
+        int numOfResourceTypes = Integer.parseInt(args[2]);
+        try (DispatchCursor input = open(Path.of(args[0]), numOfResourceTypes)) {
+            long count = writeBinary(Path.of(args[1]), input, numOfResourceTypes);
+            System.out.println("Converted " + count + " dispatches");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package os.scheduling.resource;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// JDK Vector API 구현: 한 번에 레인 폭만큼 비교, 덧셈, 뺄셈하고 남는 꼬리만 원소 단위로 처리
+// 자원 종류 수가 레인 폭보다 작으면 스칼라 구현과 같은 경로를 탄다
+public final class VectorizedResourceVectorOps implements ResourceVectorOps {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isLessOrEqual(int[] a, int aOffset, int[] b, int bOffset, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector va = IntVector.fromArray(SPECIES, a, aOffset + i);
+            IntVector vb = IntVector.fromArray(SPECIES, b, bOffset + i);
+            if (va.compare(VectorOperators.GT, vb).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (a[aOffset + i] > b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isLessOrEqualToSum(int[] a, int aOffset, int[] b, int bOffset, int[] c, int cOffset, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector va = IntVector.fromArray(SPECIES, a, aOffset + i);
+            IntVector sum = IntVector.fromArray(SPECIES, b, bOffset + i).add(IntVector.fromArray(SPECIES, c, cOffset + i));
+            if (va.compare(VectorOperators.GT, sum).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (a[aOffset + i] > b[bOffset + i] + c[cOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, target, targetOffset + i)
+                    .add(IntVector.fromArray(SPECIES, source, sourceOffset + i))
+                    .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] += source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, target, targetOffset + i)
+                    .sub(IntVector.fromArray(SPECIES, source, sourceOffset + i))
+                    .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] -= source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void max(int[] target, int targetOffset, int[] source, int sourceOffset, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, target, targetOffset + i)
+                    .max(IntVector.fromArray(SPECIES, source, sourceOffset + i))
+                    .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] = Math.max(target[targetOffset + i], source[sourceOffset + i]);
+        }
+    }
+}